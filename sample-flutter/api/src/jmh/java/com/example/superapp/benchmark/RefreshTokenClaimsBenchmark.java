@@ -0,0 +1,77 @@
+package com.example.superapp.benchmark;
+
+import com.example.superapp.modules.users.model.entity.User;
+import com.example.superapp.security.jwt.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token work done by a refresh before the user lookup: checking the token and then reading its
+ * subject, against resolving the claims once. A claims cache size of 0 stands for a refresh token
+ * seen for the first time, which is the common case since each one is used once.
+ * <p>
+ * Run with: mvn -Pjmh test-compile exec:exec -Djmh.args="RefreshTokenClaimsBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RefreshTokenClaimsBenchmark {
+
+    private static final String SECRET = "c3VwZXJhcHAtZGV2ZWxvcG1lbnQtb25seS1qd3Qtc2lnbmluZy1rZXktY2hhbmdlLWluLXByb2R1Y3Rpb24=";
+
+    @Param({"0", "10000"})
+    private long claimsCacheSize;
+
+    private JwtTokenProvider provider;
+    private User user;
+    private String refreshToken;
+
+    @Setup
+    public void setUp() {
+        provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(provider, "jwtExpiration", 900_000L);
+        ReflectionTestUtils.setField(provider, "refreshExpiration", 604_800_000L);
+        ReflectionTestUtils.setField(provider, "claimsCacheMaxSize", claimsCacheSize);
+        ReflectionTestUtils.invokeMethod(provider, "init");
+
+        user = User.builder()
+                .id("64b7f0c2e4b0a1a2b3c4d5e6")
+                .email("bench@example.com")
+                .build();
+        refreshToken = provider.generateRefreshToken(user, UUID.randomUUID().toString(),
+                UUID.randomUUID().toString());
+    }
+
+    @Benchmark
+    public String validateThenExtract() {
+        if (!provider.validateToken(refreshToken)) {
+            throw new IllegalStateException("Invalid refresh token");
+        }
+        return provider.extractUsername(refreshToken);
+    }
+
+    @Benchmark
+    public boolean resolveOnce() {
+        Claims claims = provider.resolveClaims(refreshToken)
+                .orElseThrow(() -> new IllegalStateException("Invalid refresh token"));
+        return provider.isTokenValid(claims, user);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.superapp.common.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchItemResult<T> {
+    private int index;
+    private String id;
+    private boolean success;
+    private String error;
+    private T data;
+
+    public static <T> BatchItemResult<T> success(int index, String id, T data) {
+        return BatchItemResult.<T>builder()
+                .index(index)
+                .id(id)
+                .success(true)
+                .data(data)
+                .build();
+    }
+
+    public static <T> BatchItemResult<T> failure(int index, String id, String error) {
+        return BatchItemResult.<T>builder()
+                .index(index)
+                .id(id)
+                .success(false)
+                .error(error)
+                .build();
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.superapp.common.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchRequest<T> {
+
+    public static final int MAX_ITEMS = 500;
+
+    @NotEmpty(message = "Items are required")
+    @Size(max = MAX_ITEMS, message = "A batch must not exceed " + MAX_ITEMS + " items")
+    private List<@Valid T> items;
+}
@@ -0,0 +1,27 @@
+package com.example.superapp.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchResponse<T> {
+    private List<BatchItemResult<T>> results;
+    private int succeeded;
+    private int failed;
+
+    public static <T> BatchResponse<T> of(List<BatchItemResult<T>> results) {
+        int succeeded = (int) results.stream().filter(BatchItemResult::isSuccess).count();
+        return BatchResponse.<T>builder()
+                .results(results)
+                .succeeded(succeeded)
+                .failed(results.size() - succeeded)
+                .build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.superapp.common.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A {@link BatchRequest} of ids. Constraints on a type argument do not reach the generic
+ * items, so the ids are checked here.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdBatchRequest {
+
+    @NotEmpty(message = "Items are required")
+    @Size(max = BatchRequest.MAX_ITEMS, message = "A batch must not exceed " + BatchRequest.MAX_ITEMS + " items")
+    private List<@NotBlank(message = "Ids must not be blank") String> items;
+}
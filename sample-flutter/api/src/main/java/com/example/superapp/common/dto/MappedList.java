@@ -0,0 +1,52 @@
+package com.example.superapp.common.dto;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+/**
+ * Read-only view that maps each element when it is read. Jackson writes the mapped items one at
+ * a time, so a page of entities is serialized without first being copied into a list of DTOs.
+ * A stamp function, when given, computes each item's {@link VersionStamped} stamp from the source
+ * element, so the list can be tagged without mapping it.
+ */
+public final class MappedList<S, T> extends AbstractList<T> implements RandomAccess {
+
+    private final List<S> source;
+    private final Function<? super S, ? extends T> mapper;
+    private final Function<? super S, String> stamp;
+
+    private MappedList(List<S> source, Function<? super S, ? extends T> mapper, Function<? super S, String> stamp) {
+        this.source = source;
+        this.mapper = mapper;
+        this.stamp = stamp;
+    }
+
+    public static <S, T> MappedList<S, T> of(List<S> source, Function<? super S, ? extends T> mapper) {
+        return new MappedList<>(source, mapper, null);
+    }
+
+    public static <S, T extends VersionStamped> MappedList<S, T> of(List<S> source,
+                                                                   Function<? super S, ? extends T> mapper,
+                                                                   Function<? super S, String> stamp) {
+        return new MappedList<>(source, mapper, stamp);
+    }
+
+    /**
+     * The stamp of each item, computed from the source elements, or null without a stamp function.
+     */
+    public List<String> stamps() {
+        return stamp == null ? null : source.stream().<String>map(stamp).toList();
+    }
+
+    @Override
+    public T get(int index) {
+        return mapper.apply(source.get(index));
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+}
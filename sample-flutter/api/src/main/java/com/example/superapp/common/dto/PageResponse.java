@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.domain.Page;
 
 import java.util.List;
+import java.util.function.Function;
 
 @Data
 @Builder
@@ -14,22 +15,39 @@ import java.util.List;
 @AllArgsConstructor
 public class PageResponse<T> {
     private List<T> content;
-    private int page;
+    private Integer page;
     private int size;
-    private long totalElements;
-    private int totalPages;
+    private Long totalElements;
+    private Integer totalPages;
     private boolean first;
     private boolean last;
+    private String nextCursor;
 
     public static <T> PageResponse<T> from(Page<T> page) {
-        return PageResponse.<T>builder()
-                .content(page.getContent())
-                .page(page.getNumber())
-                .size(page.getSize())
-                .totalElements(page.getTotalElements())
-                .totalPages(page.getTotalPages())
-                .first(page.isFirst())
-                .last(page.isLast())
-                .build();
+        return new PageResponse<>(page.getContent(), page.getNumber(), page.getSize(), page.getTotalElements(),
+                page.getTotalPages(), page.isFirst(), page.isLast(), null);
+    }
+
+    /**
+     * Maps the page's entities as they are serialized rather than into an intermediate list.
+     */
+    public static <S, T> PageResponse<T> from(Page<S> page, Function<? super S, ? extends T> mapper) {
+        return new PageResponse<>(MappedList.of(page.getContent(), mapper), page.getNumber(), page.getSize(),
+                page.getTotalElements(), page.getTotalPages(), page.isFirst(), page.isLast(), null);
+    }
+
+    /**
+     * As {@link #from(Page, Function)}, with each item's version stamp computed from its entity.
+     */
+    public static <S, T extends VersionStamped> PageResponse<T> from(Page<S> page,
+                                                                    Function<? super S, ? extends T> mapper,
+                                                                    Function<? super S, String> stamp) {
+        return new PageResponse<>(MappedList.of(page.getContent(), mapper, stamp), page.getNumber(), page.getSize(),
+                page.getTotalElements(), page.getTotalPages(), page.isFirst(), page.isLast(), null);
+    }
+
+    public static <T> PageResponse<T> fromCursor(List<T> content, int size, boolean first,
+                                                 String nextCursor, Long totalElements) {
+        return new PageResponse<>(content, null, size, totalElements, null, first, nextCursor == null, nextCursor);
     }
 }
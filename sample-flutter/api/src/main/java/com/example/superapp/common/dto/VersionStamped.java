@@ -0,0 +1,10 @@
+package com.example.superapp.common.dto;
+
+/**
+ * Response data with a version stamp that changes whenever its serialized form does, so an ETag
+ * can be derived without serializing the body.
+ */
+public interface VersionStamped {
+
+    String versionStamp();
+}
@@ -0,0 +1,262 @@
+package com.example.superapp.common.mongo;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PropertyPath;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Runs {@code explain} for every declared repository query method at startup and reports the ones
+ * whose winning plan is a collection scan or an in-memory sort.
+ * <p>
+ * Parameters are replaced by type-appropriate sample values. Methods taking a {@link Pageable} are
+ * explained with the {@code createdAt} descending sort the controllers default to.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "mongo.query-plan-validation.enabled", havingValue = "true")
+public class QueryPlanValidator implements ApplicationRunner {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\?(\\d+)");
+    private static final String SAMPLE_ID = new ObjectId().toHexString();
+
+    private final MongoTemplate mongoTemplate;
+    private final ApplicationContext applicationContext;
+
+    @Value("${mongo.query-plan-validation.fail-on-collscan:false}")
+    private boolean failOnCollectionScan;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Repositories repositories = new Repositories(applicationContext);
+        QueryMapper queryMapper = new QueryMapper(mongoTemplate.getConverter());
+        List<String> collectionScans = new ArrayList<>();
+        int checked = 0;
+
+        for (Class<?> domainType : repositories) {
+            Optional<RepositoryInformation> information = repositories.getRepositoryInformationFor(domainType);
+            if (information.isEmpty()) {
+                continue;
+            }
+            MongoPersistentEntity<?> entity = mongoTemplate.getConverter().getMappingContext()
+                    .getRequiredPersistentEntity(domainType);
+
+            for (Method method : information.get().getQueryMethods()) {
+                String name = information.get().getRepositoryInterface().getSimpleName() + "." + method.getName();
+                Optional<QueryShape> shape = shapeOf(method, domainType, entity);
+                if (shape.isEmpty()) {
+                    log.debug("Query plan check skipped for {}", name);
+                    continue;
+                }
+
+                Document filter = queryMapper.getMappedObject(shape.get().filter(), entity);
+                Document sort = queryMapper.getMappedSort(shape.get().sort(), entity);
+                List<String> stages = explain(entity.getCollection(), filter, sort);
+                checked++;
+
+                if (stages.contains("COLLSCAN")) {
+                    collectionScans.add(name);
+                    log.warn("Query plan check: {} falls back to COLLSCAN (filter: {}, sort: {})", name, filter.toJson(), sort.toJson());
+                } else if (stages.contains("SORT")) {
+                    log.warn("Query plan check: {} sorts in memory (filter: {}, sort: {})", name, filter.toJson(), sort.toJson());
+                } else {
+                    log.debug("Query plan check: {} uses {}", name, stages);
+                }
+            }
+        }
+
+        log.info("Query plan check finished: {} methods explained, {} collection scans", checked, collectionScans.size());
+        if (failOnCollectionScan && !collectionScans.isEmpty()) {
+            throw new IllegalStateException("Repository queries fall back to COLLSCAN: " + collectionScans);
+        }
+    }
+
+    private Optional<QueryShape> shapeOf(Method method, Class<?> domainType, MongoPersistentEntity<?> entity) {
+        Document sort = defaultSort(method, entity);
+        Query annotation = method.getAnnotation(Query.class);
+        if (annotation != null && !annotation.value().isBlank()) {
+            return Optional.of(new QueryShape(bindPlaceholders(annotation.value(), method), sort));
+        }
+
+        PartTree tree;
+        try {
+            tree = new PartTree(method.getName(), domainType);
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
+
+        List<Criteria> orCriteria = new ArrayList<>();
+        for (PartTree.OrPart orPart : tree) {
+            List<Criteria> andCriteria = new ArrayList<>();
+            for (Part part : orPart) {
+                Optional<Criteria> criteria = criteriaFor(part);
+                if (criteria.isEmpty()) {
+                    return Optional.empty();
+                }
+                andCriteria.add(criteria.get());
+            }
+            orCriteria.add(new Criteria().andOperator(andCriteria.toArray(new Criteria[0])));
+        }
+
+        Document filter = switch (orCriteria.size()) {
+            case 0 -> new Document();
+            case 1 -> orCriteria.get(0).getCriteriaObject();
+            default -> new Criteria().orOperator(orCriteria.toArray(new Criteria[0])).getCriteriaObject();
+        };
+        if (Arrays.asList(method.getParameterTypes()).contains(TextCriteria.class)) {
+            filter.putAll(TextCriteria.forDefaultLanguage().matching("sample").getCriteriaObject());
+        }
+        if (tree.getSort().isSorted()) {
+            sort = toDocument(tree.getSort());
+        }
+        return Optional.of(new QueryShape(filter, sort));
+    }
+
+    private Optional<Criteria> criteriaFor(Part part) {
+        PropertyPath property = part.getProperty();
+        Criteria where = Criteria.where(property.toDotPath());
+        Object sample = sampleValue(property.getLeafType(), property.getLeafProperty().getSegment());
+
+        return Optional.ofNullable(switch (part.getType()) {
+            case SIMPLE_PROPERTY -> where.is(sample);
+            case NEGATING_SIMPLE_PROPERTY -> where.ne(sample);
+            case GREATER_THAN, AFTER -> where.gt(sample);
+            case GREATER_THAN_EQUAL -> where.gte(sample);
+            case LESS_THAN, BEFORE -> where.lt(sample);
+            case LESS_THAN_EQUAL -> where.lte(sample);
+            case BETWEEN -> where.gte(sample).lte(sample);
+            case IN -> where.in(sample);
+            case NOT_IN -> where.nin(sample);
+            case LIKE, CONTAINING, STARTING_WITH, ENDING_WITH, REGEX -> where.regex("sample");
+            case TRUE -> where.is(true);
+            case FALSE -> where.is(false);
+            case IS_NULL -> where.is(null);
+            case IS_NOT_NULL -> where.ne(null);
+            case EXISTS -> where.exists(true);
+            default -> null;
+        });
+    }
+
+    private Document defaultSort(Method method, MongoPersistentEntity<?> entity) {
+        boolean paged = Arrays.asList(method.getParameterTypes()).contains(Pageable.class);
+        if (paged && entity.getPersistentProperty("createdAt") != null) {
+            return new Document("createdAt", -1);
+        }
+        return new Document();
+    }
+
+    private Document bindPlaceholders(String json, Method method) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        Matcher matcher = PLACEHOLDER.matcher(json);
+        StringBuilder bound = new StringBuilder();
+        while (matcher.find()) {
+            int index = Integer.parseInt(matcher.group(1));
+            Class<?> type = index < parameterTypes.length ? parameterTypes[index] : String.class;
+            matcher.appendReplacement(bound, Matcher.quoteReplacement(sampleJson(type)));
+        }
+        matcher.appendTail(bound);
+        return Document.parse(bound.toString());
+    }
+
+    private Object sampleValue(Class<?> type, String propertyName) {
+        if (type.isEnum()) {
+            return type.getEnumConstants()[0];
+        }
+        if (type == Boolean.class || type == boolean.class) {
+            return true;
+        }
+        if (Number.class.isAssignableFrom(type) || type.isPrimitive()) {
+            return 0;
+        }
+        if (type == LocalDateTime.class || type == LocalDate.class) {
+            return LocalDateTime.now();
+        }
+        return "id".equals(propertyName) ? SAMPLE_ID : "sample";
+    }
+
+    private String sampleJson(Class<?> type) {
+        if (Collection.class.isAssignableFrom(type)) {
+            return "[\"sample\"]";
+        }
+        if (type == LocalDateTime.class || type == LocalDate.class) {
+            return "{ \"$date\": \"2024-01-01T00:00:00Z\" }";
+        }
+        if (type == Boolean.class || type == boolean.class) {
+            return "true";
+        }
+        if (Number.class.isAssignableFrom(type) || type.isPrimitive()) {
+            return "0";
+        }
+        return "\"sample\"";
+    }
+
+    private Document toDocument(Sort sort) {
+        Document document = new Document();
+        sort.forEach(order -> document.put(order.getProperty(), order.isAscending() ? 1 : -1));
+        return document;
+    }
+
+    private List<String> explain(String collection, Document filter, Document sort) {
+        Document find = new Document("find", collection).append("filter", filter);
+        if (!sort.isEmpty()) {
+            find.append("sort", sort);
+        }
+        try {
+            Document result = mongoTemplate.getDb().runCommand(
+                    new Document("explain", find).append("verbosity", "queryPlanner"));
+            Document queryPlanner = result.get("queryPlanner", Document.class);
+            List<String> stages = new ArrayList<>();
+            collectStages(queryPlanner.get("winningPlan"), stages);
+            return stages;
+        } catch (RuntimeException e) {
+            log.warn("Query plan check could not explain query on {}: {}", collection, e.getMessage());
+            return List.of();
+        }
+    }
+
+    private void collectStages(Object node, List<String> stages) {
+        if (node instanceof Document document) {
+            Object stage = document.get("stage");
+            if (stage instanceof String name) {
+                stages.add(name);
+            }
+            document.values().forEach(value -> collectStages(value, stages));
+        } else if (node instanceof Collection<?> collection) {
+            collection.forEach(value -> collectStages(value, stages));
+        }
+    }
+
+    private record QueryShape(Document filter, Document sort) {
+    }
+}
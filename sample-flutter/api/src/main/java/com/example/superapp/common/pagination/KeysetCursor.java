@@ -0,0 +1,40 @@
+package com.example.superapp.common.pagination;
+
+import com.example.superapp.common.exception.BusinessException;
+import org.bson.types.ObjectId;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque position in a result set ordered by (timestamp, id), used for keyset pagination.
+ */
+public record KeysetCursor(LocalDateTime timestamp, ObjectId id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static KeysetCursor of(LocalDateTime timestamp, String id) {
+        return new KeysetCursor(timestamp, new ObjectId(id));
+    }
+
+    public String encode() {
+        String raw = timestamp + SEPARATOR + id.toHexString();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            String id = raw.substring(separator + 1);
+            if (separator < 0 || !ObjectId.isValid(id)) {
+                throw new BusinessException("Invalid cursor");
+            }
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, separator)), new ObjectId(id));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.superapp.common.search;
+
+import com.example.superapp.common.exception.BusinessException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * Turns raw user search input into bounded, operator-free MongoDB predicates.
+ * Every search path goes through here so that no user string reaches the database unescaped.
+ */
+@Component
+public class SearchQueryCompiler {
+
+    private static final String REGEX_METACHARACTERS = "\\^$.|?*+()[]{}";
+
+    private final int maxLength;
+    private final int maxTerms;
+
+    public SearchQueryCompiler(
+            @Value("${search.max-query-length:100}") int maxLength,
+            @Value("${search.max-terms:8}") int maxTerms) {
+        this.maxLength = maxLength;
+        this.maxTerms = maxTerms;
+    }
+
+    /**
+     * Plain-word $text criteria. Quotes and leading dashes are dropped so input cannot form
+     * phrase or negation operators, and the number of terms is capped.
+     */
+    public TextCriteria toTextCriteria(String raw) {
+        String[] terms = Arrays.stream(normalize(raw).replace('"', ' ').split("\\s+"))
+                .map(term -> term.replaceFirst("^-+", ""))
+                .filter(term -> !term.isEmpty())
+                .limit(maxTerms)
+                .toArray(String[]::new);
+        if (terms.length == 0) {
+            throw new BusinessException("Search query must contain at least one word");
+        }
+        return TextCriteria.forDefaultLanguage().matchingAny(terms);
+    }
+
+    /**
+     * Anchored, case-sensitive prefix pattern with every metacharacter escaped, which MongoDB
+     * can answer with a bounded scan of an ascending index on the field.
+     */
+    public String toPrefixRegex(String raw) {
+        String prefix = normalize(raw);
+        StringBuilder pattern = new StringBuilder(prefix.length() + 8).append('^');
+        for (char c : prefix.toCharArray()) {
+            if (REGEX_METACHARACTERS.indexOf(c) >= 0) {
+                pattern.append('\\');
+            }
+            pattern.append(c);
+        }
+        return pattern.toString();
+    }
+
+    private String normalize(String raw) {
+        String trimmed = raw == null ? "" : raw.strip();
+        if (trimmed.isEmpty()) {
+            throw new BusinessException("Search query must not be empty");
+        }
+        return trimmed.length() > maxLength ? trimmed.substring(0, maxLength) : trimmed;
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.superapp.common.web;
+
+import com.example.superapp.common.dto.ApiResponse;
+import com.example.superapp.common.dto.MappedList;
+import com.example.superapp.common.dto.PageResponse;
+import com.example.superapp.common.dto.VersionStamped;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Adds a strong ETag to successful GET responses whose data is {@link VersionStamped}, a collection
+ * of such items or a page of them, and answers a matching If-None-Match with 304 before the body is
+ * serialized. The tag covers the message, paging metadata and item stamps; the envelope timestamp
+ * is left out.
+ */
+@Profile("!reactive")
+@RestControllerAdvice
+public class ConditionalGetAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(body instanceof ApiResponse<?> apiResponse) || !apiResponse.isSuccess()
+                || !isRead(request.getMethod()) || !isOk(response)
+                || response.getHeaders().getETag() != null) {
+            return body;
+        }
+        String stamp = stampOf(apiResponse.getData());
+        if (stamp == null) {
+            return body;
+        }
+
+        String etag = "\"" + DigestUtils.md5DigestAsHex(
+                (apiResponse.getMessage() + "|" + stamp).getBytes(StandardCharsets.UTF_8)) + "\"";
+        response.getHeaders().setETag(etag);
+        // Responses can carry the caller's own state, so only the client may store them
+        response.getHeaders().setCacheControl("private, no-cache");
+        if (matches(request.getHeaders().getIfNoneMatch(), etag)) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return null;
+        }
+        return body;
+    }
+
+    private static String stampOf(Object data) {
+        if (data instanceof VersionStamped stamped) {
+            return stamped.versionStamp();
+        }
+        if (data instanceof PageResponse<?> page) {
+            String content = stampOf(page.getContent());
+            return content == null ? null : page.getPage() + ":" + page.getSize() + ":" + page.getTotalElements()
+                    + ":" + page.getTotalPages() + ":" + page.isLast() + ":" + page.getNextCursor() + "|" + content;
+        }
+        if (data instanceof MappedList<?, ?> mapped && mapped.stamps() != null) {
+            // Stamp the source elements rather than mapping every item a second time
+            return join(mapped.stamps());
+        }
+        if (data instanceof Collection<?> items) {
+            List<String> stamps = new ArrayList<>(items.size());
+            for (Object item : items) {
+                if (!(item instanceof VersionStamped stamped)) {
+                    return null;
+                }
+                stamps.add(stamped.versionStamp());
+            }
+            return join(stamps);
+        }
+        return null;
+    }
+
+    private static String join(List<String> stamps) {
+        StringBuilder stamp = new StringBuilder("[");
+        stamps.forEach(item -> stamp.append(item).append(','));
+        return stamp.append(']').toString();
+    }
+
+    // If-None-Match uses the weak comparison, and proxies that compress responses weaken the tag
+    private static boolean matches(List<String> ifNoneMatch, String etag) {
+        for (String candidate : ifNoneMatch) {
+            if (candidate.equals("*") || candidate.replaceFirst("^W/", "").equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isRead(HttpMethod method) {
+        return HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method);
+    }
+
+    private static boolean isOk(ServerHttpResponse response) {
+        return response instanceof ServletServerHttpResponse servletResponse
+                && servletResponse.getServletResponse().getStatus() == HttpStatus.OK.value();
+    }
+}
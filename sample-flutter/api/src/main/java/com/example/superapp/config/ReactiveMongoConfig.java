@@ -0,0 +1,14 @@
+package com.example.superapp.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.config.EnableReactiveMongoAuditing;
+
+/**
+ * {@code @EnableMongoAuditing} only covers the blocking template; reactive saves need their own auditing callback.
+ */
+@Configuration
+@Profile("reactive")
+@EnableReactiveMongoAuditing
+public class ReactiveMongoConfig {
+}
@@ -3,15 +3,20 @@ package com.example.superapp.modules.auth.controller;
 import com.example.superapp.common.dto.ApiResponse;
 import com.example.superapp.modules.auth.model.dto.*;
 import com.example.superapp.modules.auth.service.AuthService;
+import com.example.superapp.modules.users.model.entity.User;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/auth")
 @RequiredArgsConstructor
 @Tag(name = "Authentication", description = "Authentication endpoints")
@@ -32,8 +37,9 @@ public class AuthController {
     @PostMapping("/login")
     @Operation(summary = "Login user")
     public ResponseEntity<ApiResponse<AuthResponse>> login(
-            @Valid @RequestBody LoginRequest request) {
-        AuthResponse response = authService.login(request);
+            @Valid @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest) {
+        AuthResponse response = authService.login(request, httpRequest.getRemoteAddr());
         return ResponseEntity.ok(ApiResponse.success("Login successful", response));
     }
 
@@ -47,8 +53,21 @@ public class AuthController {
 
     @PostMapping("/logout")
     @Operation(summary = "Logout user")
-    public ResponseEntity<ApiResponse<Void>> logout() {
-        // For JWT, logout is handled on client side by removing the token
+    public ResponseEntity<ApiResponse<Void>> logout(
+            @Valid @RequestBody(required = false) RefreshTokenRequest request) {
+        // Without a refresh token the client only drops its tokens locally
+        if (request != null) {
+            authService.logout(request);
+        }
         return ResponseEntity.ok(ApiResponse.success("Logged out successfully"));
     }
+
+    @PostMapping("/logout-all")
+    @Operation(summary = "Logout user on all devices",
+            description = "Access tokens are rejected at once by the instance serving this request and by the "
+                    + "other instances within jwt.token-version-refresh (30 seconds by default)")
+    public ResponseEntity<ApiResponse<Void>> logoutAll(@AuthenticationPrincipal User user) {
+        authService.logoutAll(user.getId());
+        return ResponseEntity.ok(ApiResponse.success("Logged out on all devices"));
+    }
 }
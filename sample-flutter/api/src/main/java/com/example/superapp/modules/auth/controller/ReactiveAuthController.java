@@ -0,0 +1,90 @@
+package com.example.superapp.modules.auth.controller;
+
+import com.example.superapp.common.dto.ApiResponse;
+import com.example.superapp.modules.auth.model.dto.*;
+import com.example.superapp.modules.auth.service.AuthService;
+import com.example.superapp.modules.users.model.entity.User;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Reactive counterpart of {@link AuthController}. {@link AuthService} blocks on MongoDB and on
+ * password hashing, so every call runs on the bounded elastic scheduler instead of the event loop.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/auth")
+@RequiredArgsConstructor
+@Tag(name = "Authentication", description = "Authentication endpoints (reactive)")
+public class ReactiveAuthController {
+
+    private final AuthService authService;
+
+    @PostMapping("/register")
+    @Operation(summary = "Register a new user")
+    public Mono<ResponseEntity<ApiResponse<AuthResponse>>> register(
+            @Valid @RequestBody RegisterRequest request) {
+        return blocking(() -> authService.register(request))
+                .map(response -> ResponseEntity
+                        .status(HttpStatus.CREATED)
+                        .body(ApiResponse.success("User registered successfully", response)));
+    }
+
+    @PostMapping("/login")
+    @Operation(summary = "Login user")
+    public Mono<ResponseEntity<ApiResponse<AuthResponse>>> login(
+            @Valid @RequestBody LoginRequest request,
+            ServerHttpRequest httpRequest) {
+        String clientIp = httpRequest.getRemoteAddress() != null
+                ? httpRequest.getRemoteAddress().getHostString()
+                : "unknown";
+        return blocking(() -> authService.login(request, clientIp))
+                .map(response -> ResponseEntity.ok(ApiResponse.success("Login successful", response)));
+    }
+
+    @PostMapping("/refresh")
+    @Operation(summary = "Refresh access token")
+    public Mono<ResponseEntity<ApiResponse<AuthResponse>>> refreshToken(
+            @Valid @RequestBody RefreshTokenRequest request) {
+        return blocking(() -> authService.refreshToken(request))
+                .map(response -> ResponseEntity.ok(ApiResponse.success("Token refreshed successfully", response)));
+    }
+
+    @PostMapping("/logout")
+    @Operation(summary = "Logout user")
+    public Mono<ResponseEntity<ApiResponse<Void>>> logout(
+            @Valid @RequestBody(required = false) RefreshTokenRequest request) {
+        // Without a refresh token the client only drops its tokens locally
+        Mono<Void> revoke = request == null ? Mono.empty() : blocking(() -> authService.logout(request));
+        return revoke.thenReturn(ResponseEntity.ok(ApiResponse.success("Logged out successfully")));
+    }
+
+    @PostMapping("/logout-all")
+    @Operation(summary = "Logout user on all devices",
+            description = "Access tokens are rejected at once by the instance serving this request and by the "
+                    + "other instances within jwt.token-version-refresh (30 seconds by default)")
+    public Mono<ResponseEntity<ApiResponse<Void>>> logoutAll(@AuthenticationPrincipal User user) {
+        return blocking(() -> authService.logoutAll(user.getId()))
+                .thenReturn(ResponseEntity.ok(ApiResponse.success("Logged out on all devices")));
+    }
+
+    private static <T> Mono<T> blocking(Callable<T> call) {
+        return Mono.fromCallable(call).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private static Mono<Void> blocking(Runnable call) {
+        return Mono.fromRunnable(call).subscribeOn(Schedulers.boundedElastic()).then();
+    }
+}
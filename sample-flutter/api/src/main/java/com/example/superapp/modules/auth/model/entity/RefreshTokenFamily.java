@@ -0,0 +1,38 @@
+package com.example.superapp.modules.auth.model.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * One login session: the chain of refresh tokens rotated from a single sign-in. Only the hash of
+ * the current token's id is stored; presenting any earlier token of the chain revokes the family.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "refresh_token_families")
+@CompoundIndex(name = "revoked_expires_idx", def = "{'revoked': 1, 'expiresAt': 1}")
+public class RefreshTokenFamily {
+
+    @Id
+    private String id;
+
+    private String userId;
+
+    private String tokenHash;
+
+    private boolean revoked;
+
+    // Removed by Mongo once the current refresh token has expired
+    @Indexed(name = "expires_ttl_idx", expireAfter = "0s")
+    private LocalDateTime expiresAt;
+}
@@ -6,7 +6,20 @@ public interface AuthService {
 
     AuthResponse register(RegisterRequest request);
 
-    AuthResponse login(LoginRequest request);
+    /**
+     * Signs the user in. The client address only scopes the login throttle.
+     */
+    AuthResponse login(LoginRequest request, String clientIp);
 
     AuthResponse refreshToken(RefreshTokenRequest request);
+
+    /**
+     * Revokes the session the refresh token belongs to. Unknown or invalid tokens are ignored.
+     */
+    void logout(RefreshTokenRequest request);
+
+    /**
+     * Revokes every access and refresh token issued to the user so far, on all devices.
+     */
+    void logoutAll(String userId);
 }
@@ -4,17 +4,27 @@ import com.example.superapp.common.exception.BusinessException;
 import com.example.superapp.common.exception.DuplicateResourceException;
 import com.example.superapp.modules.auth.model.dto.*;
 import com.example.superapp.modules.auth.service.AuthService;
-import com.example.superapp.modules.users.model.dto.UserResponse;
+import com.example.superapp.modules.users.mapper.UserMapper;
 import com.example.superapp.modules.users.model.entity.User;
 import com.example.superapp.modules.users.repository.UserRepository;
 import com.example.superapp.security.jwt.JwtTokenProvider;
+import com.example.superapp.security.jwt.RefreshTokenStore;
+import com.example.superapp.security.jwt.TokenVersionRegistry;
+import com.example.superapp.security.ratelimit.LoginThrottle;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.Map;
+import java.util.UUID;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -24,6 +34,11 @@ public class AuthServiceImpl implements AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final AuthenticationManager authenticationManager;
+    private final LoginThrottle loginThrottle;
+    private final UserDetailsService userDetailsService;
+    private final RefreshTokenStore refreshTokenStore;
+    private final UserMapper userMapper;
+    private final TokenVersionRegistry tokenVersionRegistry;
 
     @Override
     public AuthResponse register(RegisterRequest request) {
@@ -41,72 +56,82 @@ public class AuthServiceImpl implements AuthService {
         user = userRepository.save(user);
         log.info("User registered successfully: {}", user.getEmail());
 
-        String accessToken = jwtTokenProvider.generateToken(user);
-        String refreshToken = jwtTokenProvider.generateRefreshToken(user);
-
-        return AuthResponse.builder()
-                .user(toUserResponse(user))
-                .accessToken(accessToken)
-                .refreshToken(refreshToken)
-                .build();
+        return startSession(user);
     }
 
     @Override
-    public AuthResponse login(LoginRequest request) {
-        authenticationManager.authenticate(
+    public AuthResponse login(LoginRequest request, String clientIp) {
+        loginThrottle.check(request.getEmail().toLowerCase(), clientIp);
+        Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
                         request.getEmail().toLowerCase(),
                         request.getPassword()
                 )
         );
 
-        User user = userRepository.findByEmail(request.getEmail().toLowerCase())
-                .orElseThrow(() -> new BusinessException("User not found"));
+        // The provider already loaded the account to check the password
+        User user = (User) authentication.getPrincipal();
 
         log.info("User logged in successfully: {}", user.getEmail());
 
-        String accessToken = jwtTokenProvider.generateToken(user);
-        String refreshToken = jwtTokenProvider.generateRefreshToken(user);
-
-        return AuthResponse.builder()
-                .user(toUserResponse(user))
-                .accessToken(accessToken)
-                .refreshToken(refreshToken)
-                .build();
+        return startSession(user);
     }
 
     @Override
     public AuthResponse refreshToken(RefreshTokenRequest request) {
-        String refreshToken = request.getRefreshToken();
+        Claims claims = jwtTokenProvider.resolveClaims(request.getRefreshToken())
+                .orElseThrow(() -> new BusinessException("Invalid refresh token"));
+        // Access tokens carry the family id too, but no token id
+        String familyId = claims.get(JwtTokenProvider.CLAIM_FAMILY_ID, String.class);
+        if (familyId == null || claims.getId() == null) {
+            throw new BusinessException("Invalid refresh token");
+        }
 
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
+        User user;
+        try {
+            user = (User) userDetailsService.loadUserByUsername(claims.getSubject());
+        } catch (UsernameNotFoundException e) {
+            throw new BusinessException("User not found");
+        }
+        if (!jwtTokenProvider.isTokenValid(claims, user)) {
             throw new BusinessException("Invalid refresh token");
         }
 
-        String email = jwtTokenProvider.extractUsername(refreshToken);
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new BusinessException("User not found"));
+        String tokenId = UUID.randomUUID().toString();
+        refreshTokenStore.rotate(familyId, claims.getId(), tokenId);
+        return issueTokens(user, familyId, tokenId);
+    }
 
-        String newAccessToken = jwtTokenProvider.generateToken(user);
-        String newRefreshToken = jwtTokenProvider.generateRefreshToken(user);
+    @Override
+    public void logout(RefreshTokenRequest request) {
+        jwtTokenProvider.resolveClaims(request.getRefreshToken())
+                .map(claims -> claims.get(JwtTokenProvider.CLAIM_FAMILY_ID, String.class))
+                .ifPresent(familyId -> {
+                    if (refreshTokenStore.revoke(familyId)) {
+                        log.info("Revoked token family on logout: {}", familyId);
+                    }
+                });
+    }
 
-        return AuthResponse.builder()
-                .user(toUserResponse(user))
-                .accessToken(newAccessToken)
-                .refreshToken(newRefreshToken)
-                .build();
+    @Override
+    public void logoutAll(String userId) {
+        tokenVersionRegistry.revokeAll(userId);
     }
 
-    private UserResponse toUserResponse(User user) {
-        return UserResponse.builder()
-                .id(user.getId())
-                .email(user.getEmail())
-                .name(user.getName())
-                .bio(user.getBio())
-                .avatar(user.getAvatar())
-                .followersCount(user.getFollowersCount())
-                .followingCount(user.getFollowingCount())
-                .createdAt(user.getCreatedAt())
+    private AuthResponse startSession(User user) {
+        String tokenId = UUID.randomUUID().toString();
+        String familyId = refreshTokenStore.start(user.getId(), tokenId);
+        return issueTokens(user, familyId, tokenId);
+    }
+
+    private AuthResponse issueTokens(User user, String familyId, String tokenId) {
+        String accessToken = jwtTokenProvider.generateToken(Map.of(JwtTokenProvider.CLAIM_FAMILY_ID, familyId), user);
+        String refreshToken = jwtTokenProvider.generateRefreshToken(user, familyId, tokenId);
+
+        return AuthResponse.builder()
+                .user(userMapper.toResponse(user))
+                .accessToken(accessToken)
+                .refreshToken(refreshToken)
                 .build();
     }
 }
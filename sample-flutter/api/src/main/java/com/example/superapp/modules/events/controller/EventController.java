@@ -0,0 +1,173 @@
+package com.example.superapp.modules.events.controller;
+
+import com.example.superapp.common.dto.ApiResponse;
+import com.example.superapp.common.dto.PageResponse;
+import com.example.superapp.modules.events.model.dto.EventCluster;
+import com.example.superapp.modules.events.model.dto.EventRequest;
+import com.example.superapp.modules.events.model.dto.EventResponse;
+import com.example.superapp.modules.events.model.dto.EventTile;
+import com.example.superapp.modules.events.model.dto.RsvpRequest;
+import com.example.superapp.modules.events.service.EventService;
+import com.example.superapp.modules.users.model.entity.User;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Validated
+@RestController
+@Profile("!reactive")
+@RequestMapping("/events")
+@RequiredArgsConstructor
+@Tag(name = "Events", description = "Events and RSVPs")
+public class EventController {
+
+    private final EventService eventService;
+
+    @PostMapping
+    @Operation(summary = "Create a new event")
+    public ResponseEntity<ApiResponse<EventResponse>> create(
+            @AuthenticationPrincipal User user,
+            @Valid @RequestBody EventRequest request) {
+        EventResponse response = eventService.create(user.getId(), request);
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ApiResponse.success("Event created successfully", response));
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get event by ID")
+    public ResponseEntity<ApiResponse<EventResponse>> getById(
+            @AuthenticationPrincipal User user,
+            @PathVariable String id) {
+        return ResponseEntity.ok(ApiResponse.success(eventService.getById(userId(user), id)));
+    }
+
+    @PutMapping("/{id}")
+    @Operation(summary = "Update event")
+    public ResponseEntity<ApiResponse<EventResponse>> update(
+            @AuthenticationPrincipal User user,
+            @PathVariable String id,
+            @Valid @RequestBody EventRequest request) {
+        return ResponseEntity.ok(ApiResponse.success("Event updated successfully",
+                eventService.update(user.getId(), id, request)));
+    }
+
+    @GetMapping("/upcoming")
+    @Operation(summary = "Get upcoming events, soonest first")
+    public ResponseEntity<ApiResponse<PageResponse<EventResponse>>> getUpcoming(
+            @AuthenticationPrincipal User user,
+            @PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(ApiResponse.success(eventService.getUpcoming(userId(user), pageable)));
+    }
+
+    @GetMapping("/range")
+    @Operation(summary = "Get events starting within a date range")
+    public ResponseEntity<ApiResponse<PageResponse<EventResponse>>> getByDateRange(
+            @AuthenticationPrincipal User user,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(ApiResponse.success(
+                eventService.getByDateRange(userId(user), start, end, pageable)));
+    }
+
+    @GetMapping("/map")
+    @Operation(summary = "Get upcoming events inside the visible map bounds, soonest first",
+            description = "Markers carry counts and the caller's own RSVP, not the description. "
+                    + "Use /events/map/clusters when zoomed out")
+    public ResponseEntity<ApiResponse<List<EventResponse>>> getInBounds(
+            @AuthenticationPrincipal User user,
+            @RequestParam @DecimalMin("-90") @DecimalMax("90") double minLat,
+            @RequestParam @DecimalMin("-90") @DecimalMax("90") double maxLat,
+            @RequestParam @DecimalMin("-180") @DecimalMax("180") double minLng,
+            @RequestParam @DecimalMin("-180") @DecimalMax("180") double maxLng,
+            @RequestParam(defaultValue = "100") @Min(1) @Max(500) int limit) {
+        return ResponseEntity.ok(ApiResponse.success(
+                eventService.getInBounds(userId(user), minLat, maxLat, minLng, maxLng, limit)));
+    }
+
+    @GetMapping("/map/clusters")
+    @Operation(summary = "Get clusters of upcoming events inside the visible map bounds",
+            description = "Events are grouped into grid cells that shrink as the zoom level grows. Viewports "
+                    + "wider than 64 cells are grouped at a lower zoom level")
+    public ResponseEntity<ApiResponse<List<EventCluster>>> getClusters(
+            @RequestParam @DecimalMin("-90") @DecimalMax("90") double minLat,
+            @RequestParam @DecimalMin("-90") @DecimalMax("90") double maxLat,
+            @RequestParam @DecimalMin("-180") @DecimalMax("180") double minLng,
+            @RequestParam @DecimalMin("-180") @DecimalMax("180") double maxLng,
+            @RequestParam @Min(0) @Max(22) int zoom) {
+        return ResponseEntity.ok(ApiResponse.success(
+                eventService.getClusters(minLat, maxLat, minLng, maxLng, zoom)));
+    }
+
+    @GetMapping("/map/tiles")
+    @Operation(summary = "Get clusters of upcoming events for geohash tiles at a zoom level",
+            description = "Tiles are cached server side. A tile must be at least one cluster cell tall and at "
+                    + "most 32 cells wide; use the shortest geohash that fits the zoom level")
+    public ResponseEntity<ApiResponse<List<EventTile>>> getTiles(
+            @RequestParam @Size(min = 1, max = 64) List<String> geohash,
+            @RequestParam @Min(1) @Max(22) int zoom) {
+        return ResponseEntity.ok(ApiResponse.success(eventService.getTiles(geohash, zoom)));
+    }
+
+    @GetMapping("/nearby")
+    @Operation(summary = "Get upcoming events around a point, nearest first")
+    public ResponseEntity<ApiResponse<List<EventResponse>>> getNearby(
+            @AuthenticationPrincipal User user,
+            @RequestParam @DecimalMin("-90") @DecimalMax("90") double lat,
+            @RequestParam @DecimalMin("-180") @DecimalMax("180") double lng,
+            @RequestParam(defaultValue = "10") @DecimalMin("0.1") @DecimalMax("500") double radiusKm,
+            @RequestParam(defaultValue = "50") @Min(1) @Max(200) int limit) {
+        return ResponseEntity.ok(ApiResponse.success(
+                eventService.getNearby(userId(user), lat, lng, radiusKm, limit)));
+    }
+
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Delete event")
+    public ResponseEntity<ApiResponse<Void>> delete(
+            @AuthenticationPrincipal User user,
+            @PathVariable String id) {
+        eventService.delete(user.getId(), id);
+        return ResponseEntity.ok(ApiResponse.success("Event deleted successfully"));
+    }
+
+    @PutMapping("/{id}/rsvp")
+    @Operation(summary = "Set the caller's RSVP to an event")
+    public ResponseEntity<ApiResponse<EventResponse>> rsvp(
+            @AuthenticationPrincipal User user,
+            @PathVariable String id,
+            @Valid @RequestBody RsvpRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(eventService.rsvp(user.getId(), id, request.getStatus())));
+    }
+
+    @DeleteMapping("/{id}/rsvp")
+    @Operation(summary = "Withdraw the caller's RSVP to an event")
+    public ResponseEntity<ApiResponse<EventResponse>> cancelRsvp(
+            @AuthenticationPrincipal User user,
+            @PathVariable String id) {
+        return ResponseEntity.ok(ApiResponse.success(eventService.cancelRsvp(user.getId(), id)));
+    }
+
+    // Reads are public, so the caller may be anonymous
+    private static String userId(User user) {
+        return user != null ? user.getId() : null;
+    }
+}
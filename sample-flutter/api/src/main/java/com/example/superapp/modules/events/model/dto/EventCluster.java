@@ -0,0 +1,25 @@
+package com.example.superapp.modules.events.model.dto;
+
+import com.example.superapp.common.dto.VersionStamped;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventCluster implements VersionStamped {
+
+    private double lat;
+    private double lng;
+    private long count;
+    // Set when the cluster is a single event, so the client can draw it as a marker
+    private String eventId;
+
+    @Override
+    public String versionStamp() {
+        return lat + ":" + lng + ":" + count + ":" + eventId;
+    }
+}
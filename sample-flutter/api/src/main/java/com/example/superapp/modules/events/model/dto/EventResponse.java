@@ -0,0 +1,53 @@
+package com.example.superapp.modules.events.model.dto;
+
+import com.example.superapp.common.dto.VersionStamped;
+import com.example.superapp.modules.events.model.entity.Event;
+import com.example.superapp.modules.events.model.entity.EventRsvp;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventResponse implements VersionStamped {
+
+    private String id;
+    private String userId;
+    private String title;
+    private String description;
+    private Event.Location location;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    private int attendeesCount;
+    private int interestedCount;
+    // The caller's own RSVP; absent when they have none or are not signed in
+    private EventRsvp.Status myRsvp;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static EventResponse from(Event event) {
+        return EventResponse.builder()
+                .id(event.getId())
+                .userId(event.getUserId())
+                .title(event.getTitle())
+                .description(event.getDescription())
+                .location(event.getLocation())
+                .startDate(event.getStartDate())
+                .endDate(event.getEndDate())
+                .attendeesCount(event.getAttendeesCount())
+                .interestedCount(event.getInterestedCount())
+                .createdAt(event.getCreatedAt())
+                .updatedAt(event.getUpdatedAt())
+                .build();
+    }
+
+    @Override
+    public String versionStamp() {
+        return id + ":" + updatedAt + ":" + attendeesCount + ":" + interestedCount + ":" + myRsvp;
+    }
+}
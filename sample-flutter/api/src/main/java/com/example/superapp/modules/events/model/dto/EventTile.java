@@ -0,0 +1,27 @@
+package com.example.superapp.modules.events.model.dto;
+
+import com.example.superapp.common.dto.VersionStamped;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventTile implements VersionStamped {
+
+    private String geohash;
+    private int zoom;
+    private List<EventCluster> clusters;
+
+    @Override
+    public String versionStamp() {
+        StringBuilder stamp = new StringBuilder(geohash).append(':').append(zoom).append('[');
+        clusters.forEach(cluster -> stamp.append(cluster.versionStamp()).append(','));
+        return stamp.append(']').toString();
+    }
+}
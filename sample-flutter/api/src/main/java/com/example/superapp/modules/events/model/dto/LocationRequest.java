@@ -0,0 +1,40 @@
+package com.example.superapp.modules.events.model.dto;
+
+import com.example.superapp.modules.events.model.entity.Event;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LocationRequest {
+
+    // Boxed so a missing coordinate is rejected instead of defaulting to 0
+    @NotNull(message = "Latitude is required")
+    @DecimalMin(value = "-90", message = "Latitude must be between -90 and 90")
+    @DecimalMax(value = "90", message = "Latitude must be between -90 and 90")
+    private Double lat;
+
+    @NotNull(message = "Longitude is required")
+    @DecimalMin(value = "-180", message = "Longitude must be between -180 and 180")
+    @DecimalMax(value = "180", message = "Longitude must be between -180 and 180")
+    private Double lng;
+
+    @Size(max = 500, message = "Address must not exceed 500 characters")
+    private String address;
+
+    public Event.Location toLocation() {
+        return Event.Location.builder()
+                .lat(lat)
+                .lng(lng)
+                .address(address)
+                .build();
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.superapp.modules.events.model.dto;
+
+import com.example.superapp.modules.events.model.entity.EventRsvp;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RsvpRequest {
+
+    @NotNull(message = "Status is required")
+    private EventRsvp.Status status;
+}
@@ -8,20 +8,19 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
-import org.springframework.data.mongodb.core.index.GeoSpatialIndexType;
-import org.springframework.data.mongodb.core.index.GeoSpatialIndexed;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
 
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "events")
+@CompoundIndex(name = "position_start_idx", def = "{'position': '2dsphere', 'startDate': 1}")
+@CompoundIndex(name = "geohash_start_idx", def = "{'geohash': 1, 'startDate': 1}")
 public class Event {
 
     @Id
@@ -36,16 +35,23 @@ public class Event {
 
     private Location location;
 
+    // GeoJSON copy of the location coordinates that the geo queries run against
+    private GeoJsonPoint position;
+
+    // Full-precision geohash of the position; map tiles select their events by prefix
+    private String geohash;
+
     @Indexed
     private LocalDateTime startDate;
 
     private LocalDateTime endDate;
 
+    // RSVPs live in event_rsvps; only the counts are kept on the event
     @Builder.Default
-    private List<String> attendees = new ArrayList<>();
+    private int attendeesCount = 0;
 
     @Builder.Default
-    private List<String> interestedUsers = new ArrayList<>();
+    private int interestedCount = 0;
 
     @CreatedDate
     private LocalDateTime createdAt;
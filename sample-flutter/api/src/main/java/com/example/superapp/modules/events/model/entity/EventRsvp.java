@@ -0,0 +1,57 @@
+package com.example.superapp.modules.events.model.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * A user's answer to an event. At most one per user and event, enforced by the unique index,
+ * which also serves the caller's RSVP lookup for a page of events.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "event_rsvps")
+@CompoundIndex(name = "event_user_idx", def = "{'eventId': 1, 'userId': 1}", unique = true)
+public class EventRsvp {
+
+    @Id
+    private String id;
+
+    private String eventId;
+
+    private String userId;
+
+    private Status status;
+
+    @CreatedDate
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    private LocalDateTime updatedAt;
+
+    public enum Status {
+        GOING("attendeesCount"),
+        INTERESTED("interestedCount");
+
+        private final String counterField;
+
+        Status(String counterField) {
+            this.counterField = counterField;
+        }
+
+        // Event field holding the number of RSVPs with this status
+        public String getCounterField() {
+            return counterField;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.superapp.modules.events.repository;
+
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.geo.Point;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationExpression;
+import org.springframework.data.mongodb.core.aggregation.ArithmeticOperators;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.geo.GeoJsonPolygon;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Geo queries over upcoming events. Viewport and radius queries are served by the
+ * {position: 2dsphere, startDate: 1} index, geohash tiles by the {geohash: 1, startDate: 1} index.
+ */
+@Component
+public class EventGeoQueries {
+
+    // Grid cells per 256px map tile edge, so a cluster covers roughly 64px on screen
+    private static final int CELLS_PER_TILE = 4;
+
+    // A viewport spans at most this many cells along either axis, so it yields at most 65 x 65 clusters
+    static final int MAX_CELLS_PER_AXIS = 64;
+
+    // Polygon edges are great-circle arcs, which bow towards the pole between their vertices. Along
+    // a 1 degree segment the bow stays under 0.003 degrees of latitude, so the polygon is padded by
+    // more than that and the exact latitude range is checked on each matched event
+    private static final double MAX_EDGE_DEGREES = 1.0;
+    private static final double EDGE_MARGIN_DEGREES = 0.01;
+
+    /**
+     * Upcoming events inside the map viewport, soonest first, without their descriptions.
+     */
+    public Query withinBounds(double minLat, double maxLat, double minLng, double maxLng,
+                              LocalDateTime after, int limit) {
+        Query query = Query.query(inBounds(minLat, maxLat, minLng, maxLng, after))
+                .with(Sort.by(Sort.Direction.ASC, "startDate"))
+                .limit(limit);
+        query.fields().exclude("description");
+        return query;
+    }
+
+    /**
+     * Upcoming events within the radius, nearest first.
+     */
+    public Query near(double lat, double lng, double radiusMeters, LocalDateTime after, int limit) {
+        Query query = Query.query(Criteria.where("position")
+                        .nearSphere(new GeoJsonPoint(lng, lat))
+                        .maxDistance(radiusMeters)
+                        .and("startDate").gte(after))
+                .limit(limit);
+        query.fields().exclude("description");
+        return query;
+    }
+
+    /**
+     * Groups the events inside the viewport into grid cells sized for the zoom level. Each output
+     * document holds the cell's event count, the mean of its coordinates and one of its event ids.
+     * Viewports too large for the zoom level are grouped at the coarsest zoom that keeps them within
+     * {@link #MAX_CELLS_PER_AXIS} cells per axis.
+     */
+    public Aggregation clusters(double minLat, double maxLat, double minLng, double maxLng,
+                                LocalDateTime after, int zoom) {
+        return clusters(inBounds(minLat, maxLat, minLng, maxLng, after),
+                cellDegrees(clampZoom(maxLat - minLat, maxLng - minLng, zoom)));
+    }
+
+    /**
+     * Groups the events of a geohash tile into grid cells sized for the zoom level, in the same shape
+     * as {@link #clusters(double, double, double, double, LocalDateTime, int)}. Events are matched by
+     * their stored geohash, so each one belongs to exactly one tile of a given precision.
+     */
+    public Aggregation tileClusters(String geohash, LocalDateTime after, int zoom) {
+        // Geohashes only use [0-9a-z], so the prefix needs no escaping
+        return clusters(Criteria.where("geohash").regex("^" + geohash).and("startDate").gte(after),
+                cellDegrees(zoom));
+    }
+
+    private static Aggregation clusters(Criteria match, double cellDegrees) {
+        AggregationExpression lng = coordinate(0);
+        AggregationExpression lat = coordinate(1);
+
+        return Aggregation.newAggregation(
+                Aggregation.match(match),
+                Aggregation.project()
+                        .and("id").as("eventId")
+                        .and(lng).as("lng")
+                        .and(lat).as("lat")
+                        .and(cell(lng, cellDegrees)).as("cellX")
+                        .and(cell(lat, cellDegrees)).as("cellY"),
+                Aggregation.group("cellX", "cellY")
+                        .count().as("count")
+                        .avg("lng").as("lng")
+                        .avg("lat").as("lat")
+                        .first("eventId").as("eventId"));
+    }
+
+    /**
+     * Edge length of a cluster cell at the zoom level, in degrees of both latitude and longitude.
+     */
+    public static double cellDegrees(int zoom) {
+        return 360.0 / (Math.pow(2, zoom) * CELLS_PER_TILE);
+    }
+
+    /**
+     * The requested zoom, lowered until the viewport spans at most {@link #MAX_CELLS_PER_AXIS} cells per
+     * axis. Lowering the zoom rather than stretching the cells keeps them aligned with other requests.
+     */
+    static int clampZoom(double latSpan, double lngSpan, int zoom) {
+        double span = Math.max(latSpan, lngSpan);
+        int clamped = zoom;
+        while (clamped > 0 && span / cellDegrees(clamped) > MAX_CELLS_PER_AXIS) {
+            clamped--;
+        }
+        return clamped;
+    }
+
+    // Written as a raw expression: GeoJsonPoint is not a mapped entity, so "position.coordinates" cannot be resolved
+    private static AggregationExpression coordinate(int index) {
+        return context -> new Document("$arrayElemAt", List.of("$position.coordinates", index));
+    }
+
+    private static AggregationExpression cell(AggregationExpression coordinate, double cellDegrees) {
+        return ArithmeticOperators.Floor.floorValueOf(
+                ArithmeticOperators.Divide.valueOf(coordinate).divideBy(cellDegrees));
+    }
+
+    private static Criteria inBounds(double minLat, double maxLat, double minLng, double maxLng,
+                                     LocalDateTime after) {
+        double south = Math.max(minLat - EDGE_MARGIN_DEGREES, -90);
+        double north = Math.min(maxLat + EDGE_MARGIN_DEGREES, 90);
+        int segments = (int) Math.ceil((maxLng - minLng) / MAX_EDGE_DEGREES);
+        double step = (maxLng - minLng) / segments;
+
+        // Counter-clockwise: east along the south edge, west along the north edge; meridians are exact
+        List<Point> ring = new ArrayList<>(2 * segments + 3);
+        for (int i = 0; i <= segments; i++) {
+            ring.add(new Point(i == segments ? maxLng : minLng + i * step, south));
+        }
+        for (int i = segments; i >= 0; i--) {
+            ring.add(new Point(i == segments ? maxLng : minLng + i * step, north));
+        }
+        ring.add(ring.get(0));
+
+        return Criteria.where("position").within(new GeoJsonPolygon(ring))
+                .and("position.coordinates.1").gte(minLat).lte(maxLat)
+                .and("startDate").gte(after);
+    }
+}
@@ -8,7 +8,6 @@ import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -22,7 +21,4 @@ public interface EventRepository extends MongoRepository<Event, String> {
     Page<Event> findByDateRange(LocalDateTime start, LocalDateTime end, Pageable pageable);
 
     Page<Event> findByStartDateGreaterThanEqualOrderByStartDateAsc(LocalDateTime date, Pageable pageable);
-
-    @Query("{ 'location.lat': { $gte: ?0, $lte: ?1 }, 'location.lng': { $gte: ?2, $lte: ?3 }, 'startDate': { $gte: ?4 } }")
-    List<Event> findEventsInBounds(double minLat, double maxLat, double minLng, double maxLng, LocalDateTime after);
 }
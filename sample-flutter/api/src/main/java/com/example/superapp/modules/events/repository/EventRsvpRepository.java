@@ -0,0 +1,18 @@
+package com.example.superapp.modules.events.repository;
+
+import com.example.superapp.modules.events.model.entity.EventRsvp;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface EventRsvpRepository extends MongoRepository<EventRsvp, String> {
+
+    @Query(value = "{ 'eventId': { $in: ?0 }, 'userId': ?1 }", fields = "{ 'eventId': 1, 'status': 1 }")
+    List<EventRsvp> findByEventIdInAndUserId(Collection<String> eventIds, String userId);
+
+    long deleteByEventId(String eventId);
+}
@@ -0,0 +1,73 @@
+package com.example.superapp.modules.events.service;
+
+import com.example.superapp.modules.events.model.entity.Event;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Sets the geohash of upcoming events saved before it was stored, so map tiles, which select
+ * events by geohash prefix, include them. Past events never show on the map and are left as they are.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventGeohashBackfill implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        // Null matches a missing field, so the {geohash: 1, startDate: 1} index serves the lookup
+        Query query = Query.query(Criteria.where("geohash").is(null)
+                .and("position").ne(null)
+                .and("startDate").gte(LocalDateTime.now()));
+        query.fields().include("position");
+
+        long updated = 0;
+        try (Stream<Event> stream = mongoTemplate.stream(query, Event.class)) {
+            Iterator<Event> events = stream.iterator();
+            BulkOperations bulkOps = null;
+            int pending = 0;
+            while (events.hasNext()) {
+                Event event = events.next();
+                if (bulkOps == null) {
+                    bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Event.class);
+                }
+                bulkOps.updateOne(
+                        Query.query(Criteria.where("id").is(event.getId()).and("geohash").is(null)),
+                        Update.update("geohash", Geohash.encode(event.getPosition().getY(),
+                                event.getPosition().getX(), Geohash.MAX_PRECISION)));
+                if (++pending == BATCH_SIZE) {
+                    updated += bulkOps.execute().getModifiedCount();
+                    bulkOps = null;
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                updated += bulkOps.execute().getModifiedCount();
+            }
+        } catch (DataAccessException e) {
+            // Retried on the next start; until then the affected events are missing from map tiles
+            log.warn("Event geohash backfill failed after {} events: {}", updated, e.getMessage());
+            return;
+        }
+        if (updated > 0) {
+            log.info("Backfilled the geohash of {} upcoming events", updated);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.superapp.modules.events.service;
+
+import com.example.superapp.common.dto.PageResponse;
+import com.example.superapp.modules.events.model.dto.EventCluster;
+import com.example.superapp.modules.events.model.dto.EventRequest;
+import com.example.superapp.modules.events.model.dto.EventResponse;
+import com.example.superapp.modules.events.model.dto.EventTile;
+import com.example.superapp.modules.events.model.entity.EventRsvp;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface EventService {
+
+    EventResponse create(String userId, EventRequest request);
+
+    EventResponse update(String userId, String eventId, EventRequest request);
+
+    EventResponse getById(String viewerId, String eventId);
+
+    PageResponse<EventResponse> getUpcoming(String viewerId, Pageable pageable);
+
+    PageResponse<EventResponse> getByDateRange(String viewerId, LocalDateTime start, LocalDateTime end, Pageable pageable);
+
+    List<EventResponse> getInBounds(String viewerId, double minLat, double maxLat, double minLng, double maxLng,
+                                    int limit);
+
+    List<EventResponse> getNearby(String viewerId, double lat, double lng, double radiusKm, int limit);
+
+    List<EventCluster> getClusters(double minLat, double maxLat, double minLng, double maxLng, int zoom);
+
+    List<EventTile> getTiles(List<String> geohashes, int zoom);
+
+    void delete(String userId, String eventId);
+
+    EventResponse rsvp(String userId, String eventId, EventRsvp.Status status);
+
+    EventResponse cancelRsvp(String userId, String eventId);
+}
@@ -0,0 +1,66 @@
+package com.example.superapp.modules.events.service;
+
+import com.example.superapp.modules.events.model.dto.EventCluster;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Clusters of upcoming events per geohash tile and zoom level. A write only drops the tiles that
+ * contain the event's position, at every precision and zoom level. The TTL bounds how long other
+ * instances, which do not see the write, and events that have since started stay on the map.
+ */
+@Component
+public class EventTileCache {
+
+    public static final int MAX_ZOOM = 22;
+
+    private final Cache<TileKey, List<EventCluster>> cache;
+
+    public EventTileCache(
+            MeterRegistry meterRegistry,
+            @Value("${events.tile-cache.max-clusters:500000}") long maxClusters,
+            @Value("${events.tile-cache.ttl:5m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxClusters)
+                .<TileKey, List<EventCluster>>weigher((key, clusters) -> Math.max(clusters.size(), 1))
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "event_tiles");
+    }
+
+    public List<EventCluster> get(String geohash, int zoom, Function<TileKey, List<EventCluster>> loader) {
+        return cache.get(new TileKey(geohash, zoom), loader);
+    }
+
+    /**
+     * Drops every cached tile containing the position. A load already running for one of those
+     * tiles finishes first and is then dropped, so a read that raced the write is not kept.
+     */
+    public void evictAt(GeoJsonPoint position) {
+        if (position == null) {
+            return;
+        }
+        String geohash = Geohash.encode(position.getY(), position.getX(), Geohash.MAX_PRECISION);
+        List<TileKey> keys = new ArrayList<>(Geohash.MAX_PRECISION * (MAX_ZOOM + 1));
+        for (int precision = 1; precision <= Geohash.MAX_PRECISION; precision++) {
+            for (int zoom = 0; zoom <= MAX_ZOOM; zoom++) {
+                keys.add(new TileKey(geohash.substring(0, precision), zoom));
+            }
+        }
+        cache.invalidateAll(keys);
+    }
+
+    public record TileKey(String geohash, int zoom) {
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.superapp.modules.events.service;
+
+import com.example.superapp.common.exception.BusinessException;
+
+/**
+ * Minimal geohash codec. Each character adds five bits, alternating longitude and latitude
+ * halvings, so every tile edge is a power-of-two fraction of the globe.
+ */
+public final class Geohash {
+
+    public static final int MAX_PRECISION = 8;
+
+    private static final String BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+
+    private Geohash() {
+    }
+
+    public static String encode(double lat, double lng, int precision) {
+        double minLat = -90, maxLat = 90, minLng = -180, maxLng = 180;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean lngBit = true;
+        int bits = 0, value = 0;
+        while (hash.length() < precision) {
+            if (lngBit) {
+                double mid = (minLng + maxLng) / 2;
+                value = (value << 1) | (lng >= mid ? 1 : 0);
+                if (lng >= mid) minLng = mid; else maxLng = mid;
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                value = (value << 1) | (lat >= mid ? 1 : 0);
+                if (lat >= mid) minLat = mid; else maxLat = mid;
+            }
+            lngBit = !lngBit;
+            if (++bits == 5) {
+                hash.append(BASE32.charAt(value));
+                bits = 0;
+                value = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    /**
+     * Returns the tile of a geohash as {minLat, maxLat, minLng, maxLng}.
+     */
+    public static double[] bounds(String geohash) {
+        if (geohash == null || geohash.isEmpty() || geohash.length() > MAX_PRECISION) {
+            throw new BusinessException("Invalid geohash: " + geohash);
+        }
+        double minLat = -90, maxLat = 90, minLng = -180, maxLng = 180;
+        boolean lngBit = true;
+        for (char c : geohash.toCharArray()) {
+            int value = BASE32.indexOf(c);
+            if (value < 0) {
+                throw new BusinessException("Invalid geohash: " + geohash);
+            }
+            for (int bit = 4; bit >= 0; bit--) {
+                boolean upper = ((value >> bit) & 1) == 1;
+                if (lngBit) {
+                    double mid = (minLng + maxLng) / 2;
+                    if (upper) minLng = mid; else maxLng = mid;
+                } else {
+                    double mid = (minLat + maxLat) / 2;
+                    if (upper) minLat = mid; else maxLat = mid;
+                }
+                lngBit = !lngBit;
+            }
+        }
+        return new double[]{minLat, maxLat, minLng, maxLng};
+    }
+}
@@ -0,0 +1,320 @@
+package com.example.superapp.modules.events.service.impl;
+
+import com.example.superapp.common.dto.PageResponse;
+import com.example.superapp.common.exception.BusinessException;
+import com.example.superapp.common.exception.ResourceNotFoundException;
+import com.example.superapp.modules.events.model.dto.EventCluster;
+import com.example.superapp.modules.events.model.dto.EventRequest;
+import com.example.superapp.modules.events.model.dto.EventResponse;
+import com.example.superapp.modules.events.model.dto.EventTile;
+import com.example.superapp.modules.events.model.entity.Event;
+import com.example.superapp.modules.events.model.entity.EventRsvp;
+import com.example.superapp.modules.events.repository.EventGeoQueries;
+import com.example.superapp.modules.events.repository.EventRepository;
+import com.example.superapp.modules.events.repository.EventRsvpRepository;
+import com.example.superapp.modules.events.service.EventService;
+import com.example.superapp.modules.events.service.EventTileCache;
+import com.example.superapp.modules.events.service.Geohash;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EventServiceImpl implements EventService {
+
+    private static final int MAX_CELLS_PER_TILE = 32;
+
+    private final EventRepository eventRepository;
+    private final EventRsvpRepository eventRsvpRepository;
+    private final MongoTemplate mongoTemplate;
+    private final EventGeoQueries eventGeoQueries;
+    private final EventTileCache eventTileCache;
+
+    @Override
+    public EventResponse create(String userId, EventRequest request) {
+        Event.Location location = request.getLocation().toLocation();
+        Event event = eventRepository.save(Event.builder()
+                .userId(userId)
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .location(location)
+                .position(positionOf(location))
+                .geohash(geohashOf(location))
+                .startDate(request.getStartDate())
+                .endDate(request.getEndDate())
+                .build());
+        eventTileCache.evictAt(event.getPosition());
+        log.info("Event created: {} by user: {}", event.getId(), userId);
+        return EventResponse.from(event);
+    }
+
+    @Override
+    public EventResponse update(String userId, String eventId, EventRequest request) {
+        LocalDateTime now = LocalDateTime.now();
+        Event.Location location = request.getLocation().toLocation();
+        GeoJsonPoint position = positionOf(location);
+        Update update = new Update()
+                .set("title", request.getTitle())
+                .set("description", request.getDescription())
+                .set("location", location)
+                .set("position", position)
+                .set("geohash", geohashOf(location))
+                .set("startDate", request.getStartDate())
+                .set("endDate", request.getEndDate())
+                .set("updatedAt", now);
+
+        // The previous document is returned so the tiles around its old position can be dropped too
+        Event event = mongoTemplate.findAndModify(
+                Query.query(Criteria.where("id").is(eventId).and("userId").is(userId)), update,
+                FindAndModifyOptions.options().returnNew(false), Event.class);
+        if (event == null) {
+            throw new ResourceNotFoundException("Event", "id", eventId);
+        }
+        eventTileCache.evictAt(event.getPosition());
+        eventTileCache.evictAt(position);
+
+        event.setTitle(request.getTitle());
+        event.setDescription(request.getDescription());
+        event.setLocation(location);
+        event.setPosition(position);
+        event.setGeohash(geohashOf(location));
+        event.setStartDate(request.getStartDate());
+        event.setEndDate(request.getEndDate());
+        event.setUpdatedAt(now);
+        log.info("Event updated: {}", eventId);
+        return withRsvps(userId, List.of(EventResponse.from(event))).get(0);
+    }
+
+    @Override
+    public EventResponse getById(String viewerId, String eventId) {
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event", "id", eventId));
+        return withRsvps(viewerId, List.of(EventResponse.from(event))).get(0);
+    }
+
+    @Override
+    public PageResponse<EventResponse> getUpcoming(String viewerId, Pageable pageable) {
+        Page<EventResponse> events = eventRepository
+                .findByStartDateGreaterThanEqualOrderByStartDateAsc(LocalDateTime.now(), pageable)
+                .map(EventResponse::from);
+        withRsvps(viewerId, events.getContent());
+        return PageResponse.from(events);
+    }
+
+    @Override
+    public PageResponse<EventResponse> getByDateRange(String viewerId, LocalDateTime start, LocalDateTime end,
+                                                      Pageable pageable) {
+        Page<EventResponse> events = eventRepository.findByDateRange(start, end, pageable).map(EventResponse::from);
+        withRsvps(viewerId, events.getContent());
+        return PageResponse.from(events);
+    }
+
+    @Override
+    public List<EventResponse> getInBounds(String viewerId, double minLat, double maxLat,
+                                           double minLng, double maxLng, int limit) {
+        requireValidBounds(minLat, maxLat, minLng, maxLng);
+        List<EventResponse> events = mongoTemplate.find(
+                        eventGeoQueries.withinBounds(minLat, maxLat, minLng, maxLng, LocalDateTime.now(), limit),
+                        Event.class).stream()
+                .map(EventResponse::from)
+                .toList();
+        return withRsvps(viewerId, events);
+    }
+
+    @Override
+    public List<EventResponse> getNearby(String viewerId, double lat, double lng, double radiusKm, int limit) {
+        List<EventResponse> events = mongoTemplate.find(
+                        eventGeoQueries.near(lat, lng, radiusKm * 1000, LocalDateTime.now(), limit),
+                        Event.class).stream()
+                .map(EventResponse::from)
+                .toList();
+        return withRsvps(viewerId, events);
+    }
+
+    @Override
+    public List<EventCluster> getClusters(double minLat, double maxLat, double minLng, double maxLng, int zoom) {
+        requireValidBounds(minLat, maxLat, minLng, maxLng);
+        return mongoTemplate.aggregate(
+                        eventGeoQueries.clusters(minLat, maxLat, minLng, maxLng, LocalDateTime.now(), zoom),
+                        Event.class, Document.class)
+                .getMappedResults().stream()
+                .map(EventServiceImpl::toCluster)
+                .toList();
+    }
+
+    @Override
+    public List<EventTile> getTiles(List<String> geohashes, int zoom) {
+        List<String> tiles = geohashes.stream().distinct().toList();
+        tiles.forEach(geohash -> requireFittingTile(geohash, zoom));
+        return tiles.stream()
+                .map(geohash -> EventTile.builder()
+                        .geohash(geohash)
+                        .zoom(zoom)
+                        .clusters(eventTileCache.get(geohash, zoom, this::loadTile))
+                        .build())
+                .toList();
+    }
+
+    @Override
+    public void delete(String userId, String eventId) {
+        Event event = eventRepository.findByIdAndUserId(eventId, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event", "id", eventId));
+        eventRepository.delete(event);
+        eventRsvpRepository.deleteByEventId(eventId);
+        eventTileCache.evictAt(event.getPosition());
+        log.info("Event deleted: {}", eventId);
+    }
+
+    @Override
+    public EventResponse rsvp(String userId, String eventId, EventRsvp.Status status) {
+        if (!mongoTemplate.exists(byId(eventId), Event.class)) {
+            throw new ResourceNotFoundException("Event", "id", eventId);
+        }
+
+        EventRsvp previous = upsertRsvp(userId, eventId, status);
+        EventRsvp.Status previousStatus = previous != null ? previous.getStatus() : null;
+        if (previousStatus == status) {
+            return withStatus(findEvent(eventId), status);
+        }
+
+        Update counters = new Update().inc(status.getCounterField(), 1);
+        if (previousStatus != null) {
+            counters.inc(previousStatus.getCounterField(), -1);
+        }
+        log.debug("User {} RSVP'd {} to event {}", userId, status, eventId);
+        return withStatus(adjustCounters(eventId, counters), status);
+    }
+
+    @Override
+    public EventResponse cancelRsvp(String userId, String eventId) {
+        EventRsvp removed = mongoTemplate.findAndRemove(ownRsvp(userId, eventId), EventRsvp.class);
+        if (removed == null) {
+            return withStatus(findEvent(eventId), null);
+        }
+        log.debug("User {} cancelled RSVP to event {}", userId, eventId);
+        return withStatus(adjustCounters(eventId, new Update().inc(removed.getStatus().getCounterField(), -1)), null);
+    }
+
+    /**
+     * Sets the caller's RSVP and returns the one it replaced, or null for a first answer.
+     */
+    private EventRsvp upsertRsvp(String userId, String eventId, EventRsvp.Status status) {
+        Update update = new Update()
+                .set("status", status)
+                .currentDate("updatedAt")
+                .setOnInsert("createdAt", LocalDateTime.now());
+        try {
+            return mongoTemplate.findAndModify(ownRsvp(userId, eventId), update,
+                    FindAndModifyOptions.options().upsert(true).returnNew(false), EventRsvp.class);
+        } catch (DuplicateKeyException e) {
+            // Two concurrent first answers raced on the unique index; the retry updates the winner's document
+            return mongoTemplate.findAndModify(ownRsvp(userId, eventId), update,
+                    FindAndModifyOptions.options().returnNew(false), EventRsvp.class);
+        }
+    }
+
+    /**
+     * Sets myRsvp on every event of a page with a single lookup. Left unset for anonymous callers.
+     */
+    private List<EventResponse> withRsvps(String viewerId, List<EventResponse> events) {
+        if (viewerId == null || events.isEmpty()) {
+            return events;
+        }
+        List<String> eventIds = events.stream().map(EventResponse::getId).toList();
+        Map<String, EventRsvp.Status> statuses = eventRsvpRepository.findByEventIdInAndUserId(eventIds, viewerId)
+                .stream()
+                .collect(Collectors.toMap(EventRsvp::getEventId, EventRsvp::getStatus));
+        events.forEach(event -> event.setMyRsvp(statuses.get(event.getId())));
+        return events;
+    }
+
+    private Event adjustCounters(String eventId, Update counters) {
+        Event event = mongoTemplate.findAndModify(byId(eventId), counters,
+                FindAndModifyOptions.options().returnNew(true), Event.class);
+        if (event == null) {
+            throw new ResourceNotFoundException("Event", "id", eventId);
+        }
+        return event;
+    }
+
+    private Event findEvent(String eventId) {
+        return eventRepository.findById(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event", "id", eventId));
+    }
+
+    private List<EventCluster> loadTile(EventTileCache.TileKey tile) {
+        return mongoTemplate.aggregate(
+                        eventGeoQueries.tileClusters(tile.geohash(), LocalDateTime.now(), tile.zoom()),
+                        Event.class, Document.class)
+                .getMappedResults().stream()
+                .map(EventServiceImpl::toCluster)
+                .toList();
+    }
+
+    private static EventCluster toCluster(Document cell) {
+        long count = ((Number) cell.get("count")).longValue();
+        return EventCluster.builder()
+                .lat(((Number) cell.get("lat")).doubleValue())
+                .lng(((Number) cell.get("lng")).doubleValue())
+                .count(count)
+                .eventId(count == 1 ? String.valueOf(cell.get("eventId")) : null)
+                .build();
+    }
+
+    // A tile must be at least one grid cell tall, so its power-of-two edges fall on cell edges and
+    // each cell is built from one tile's events, and at most MAX_CELLS_PER_TILE cells wide, so a
+    // single load stays small
+    private static void requireFittingTile(String geohash, int zoom) {
+        double[] bounds = Geohash.bounds(geohash);
+        double cellDegrees = EventGeoQueries.cellDegrees(zoom);
+        if (bounds[1] - bounds[0] < cellDegrees || bounds[3] - bounds[2] > cellDegrees * MAX_CELLS_PER_TILE) {
+            throw new BusinessException("Geohash " + geohash + " does not fit zoom level " + zoom);
+        }
+    }
+
+    // A GeoJSON polygon must stay within one hemisphere, so the viewport cannot wrap the antimeridian
+    private static void requireValidBounds(double minLat, double maxLat, double minLng, double maxLng) {
+        if (minLat >= maxLat || minLng >= maxLng || maxLng - minLng >= 180) {
+            throw new BusinessException("Invalid map bounds");
+        }
+    }
+
+    private static GeoJsonPoint positionOf(Event.Location location) {
+        return new GeoJsonPoint(location.getLng(), location.getLat());
+    }
+
+    private static String geohashOf(Event.Location location) {
+        return Geohash.encode(location.getLat(), location.getLng(), Geohash.MAX_PRECISION);
+    }
+
+    private static EventResponse withStatus(Event event, EventRsvp.Status status) {
+        EventResponse response = EventResponse.from(event);
+        response.setMyRsvp(status);
+        return response;
+    }
+
+    private static Query byId(String eventId) {
+        return Query.query(Criteria.where("id").is(eventId));
+    }
+
+    private static Query ownRsvp(String userId, String eventId) {
+        return Query.query(Criteria.where("eventId").is(eventId).and("userId").is(userId));
+    }
+}
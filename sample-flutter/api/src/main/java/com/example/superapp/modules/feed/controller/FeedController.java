@@ -0,0 +1,41 @@
+package com.example.superapp.modules.feed.controller;
+
+import com.example.superapp.common.dto.ApiResponse;
+import com.example.superapp.common.dto.PageResponse;
+import com.example.superapp.modules.feed.service.FeedService;
+import com.example.superapp.modules.posts.model.dto.PostResponse;
+import com.example.superapp.modules.users.model.entity.User;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Validated
+@RestController
+@Profile("!reactive")
+@RequestMapping("/feed")
+@RequiredArgsConstructor
+@Tag(name = "Feed", description = "Home feed of posts from followed users")
+public class FeedController {
+
+    private final FeedService feedService;
+
+    @GetMapping
+    @Operation(summary = "Get the home feed, newest first",
+            description = "Pass the returned nextCursor to load the following page")
+    public ResponseEntity<ApiResponse<PageResponse<PostResponse>>> getFeed(
+            @AuthenticationPrincipal User user,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(50) int size) {
+        return ResponseEntity.ok(ApiResponse.success(feedService.getFeed(user.getId(), cursor, size)));
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.superapp.modules.feed.model.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Precomputed home timeline of one user: the newest post references of everyone they follow,
+ * capped at {@code feed.timeline.max-entries} and kept sorted newest first.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "timelines")
+public class Timeline {
+
+    // Owner of the timeline
+    @Id
+    private String userId;
+
+    @Builder.Default
+    private List<TimelineEntry> entries = new ArrayList<>();
+}
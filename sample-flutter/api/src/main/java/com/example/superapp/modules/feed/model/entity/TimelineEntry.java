@@ -0,0 +1,26 @@
+package com.example.superapp.modules.feed.model.entity;
+
+import com.example.superapp.modules.posts.model.entity.Post;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimelineEntry {
+
+    private String postId;
+
+    private String authorId;
+
+    private LocalDateTime createdAt;
+
+    public static TimelineEntry of(Post post) {
+        return new TimelineEntry(post.getId(), post.getUserId(), post.getCreatedAt());
+    }
+}
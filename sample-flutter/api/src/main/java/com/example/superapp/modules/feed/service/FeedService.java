@@ -0,0 +1,16 @@
+package com.example.superapp.modules.feed.service;
+
+import com.example.superapp.common.dto.PageResponse;
+import com.example.superapp.modules.posts.model.dto.PostResponse;
+import com.example.superapp.modules.posts.model.entity.Post;
+
+public interface FeedService {
+
+    PageResponse<PostResponse> getFeed(String userId, String cursor, int size);
+
+    void publish(Post post);
+
+    void onFollow(String followerId, String followeeId);
+
+    void onUnfollow(String followerId, String followeeId);
+}
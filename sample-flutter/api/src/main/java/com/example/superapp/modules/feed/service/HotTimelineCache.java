@@ -0,0 +1,49 @@
+package com.example.superapp.modules.feed.service;
+
+import com.example.superapp.modules.feed.model.entity.TimelineEntry;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Timelines of recently active readers. Bounded by the total number of entries held rather than by
+ * the number of users, since a timeline can hold anything from zero to the bucket cap.
+ */
+@Component
+public class HotTimelineCache {
+
+    private final Cache<String, List<TimelineEntry>> cache;
+
+    public HotTimelineCache(
+            MeterRegistry meterRegistry,
+            @Value("${feed.hot-cache.max-entries:1000000}") long maxEntries,
+            @Value("${feed.hot-cache.ttl:10m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxEntries)
+                .<String, List<TimelineEntry>>weigher((userId, entries) -> Math.max(entries.size(), 1))
+                .expireAfterAccess(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "timelines");
+    }
+
+    public List<TimelineEntry> get(String userId, Function<String, List<TimelineEntry>> loader) {
+        return cache.get(userId, loader);
+    }
+
+    public void evict(String userId) {
+        cache.invalidate(userId);
+    }
+
+    public void evictAll(Collection<String> userIds) {
+        cache.invalidateAll(userIds);
+    }
+}
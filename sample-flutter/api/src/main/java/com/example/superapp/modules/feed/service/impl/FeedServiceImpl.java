@@ -0,0 +1,345 @@
+package com.example.superapp.modules.feed.service.impl;
+
+import com.example.superapp.common.dto.PageResponse;
+import com.example.superapp.common.pagination.KeysetCursor;
+import com.example.superapp.modules.feed.model.entity.Timeline;
+import com.example.superapp.modules.feed.model.entity.TimelineEntry;
+import com.example.superapp.modules.feed.service.FeedService;
+import com.example.superapp.modules.feed.service.HotTimelineCache;
+import com.example.superapp.modules.posts.model.dto.PostResponse;
+import com.example.superapp.modules.posts.model.entity.Post;
+import com.example.superapp.modules.posts.repository.PostRepository;
+import com.example.superapp.modules.posts.service.PostLikeService;
+import com.example.superapp.modules.users.model.entity.Follow;
+import com.example.superapp.modules.users.model.entity.User;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Hybrid home feed. Posts are pushed into each follower's capped {@link Timeline} when they are
+ * created (fan-out-on-write), except for authors with at least {@code feed.celebrity-threshold}
+ * followers, whose posts are merged in when the feed is read (fan-out-on-read). A feed page then
+ * costs one timeline lookup, usually served from {@link HotTimelineCache}, plus one indexed query
+ * over the few followed celebrities, instead of a $in over every followed user.
+ */
+@Slf4j
+@Service
+public class FeedServiceImpl implements FeedService, DisposableBean {
+
+    private static final int FAN_OUT_BATCH_SIZE = 1000;
+    private static final int DUPLICATE_KEY = 11000;
+    private static final String CELEBRITIES = "celebrities";
+    private static final Comparator<TimelineEntry> NEWEST_FIRST = Comparator
+            .comparing(TimelineEntry::getCreatedAt)
+            .thenComparing(TimelineEntry::getPostId)
+            .reversed();
+
+    private final MongoTemplate mongoTemplate;
+    private final PostRepository postRepository;
+    private final HotTimelineCache hotTimelines;
+    private final PostLikeService postLikeService;
+    // Owned here rather than exposed as a bean, which would replace Boot's default application task executor
+    private final ThreadPoolTaskExecutor fanOutExecutor;
+    private final long celebrityThreshold;
+    private final int maxEntries;
+    private final int followBackfill;
+    private final LoadingCache<String, Set<String>> celebrities;
+
+    public FeedServiceImpl(
+            MongoTemplate mongoTemplate,
+            PostRepository postRepository,
+            HotTimelineCache hotTimelines,
+            PostLikeService postLikeService,
+            MeterRegistry meterRegistry,
+            @Value("${feed.celebrity-threshold:10000}") long celebrityThreshold,
+            @Value("${feed.celebrity-refresh:1m}") Duration celebrityRefresh,
+            @Value("${feed.timeline.max-entries:800}") int maxEntries,
+            @Value("${feed.timeline.follow-backfill:50}") int followBackfill,
+            @Value("${feed.fan-out.threads:4}") int fanOutThreads,
+            @Value("${feed.fan-out.queue-capacity:1000}") int fanOutQueueCapacity) {
+        this.mongoTemplate = mongoTemplate;
+        this.postRepository = postRepository;
+        this.hotTimelines = hotTimelines;
+        this.postLikeService = postLikeService;
+        this.fanOutExecutor = fanOutExecutor(fanOutThreads, fanOutQueueCapacity, meterRegistry);
+        this.celebrityThreshold = celebrityThreshold;
+        this.maxEntries = maxEntries;
+        this.followBackfill = followBackfill;
+        this.celebrities = Caffeine.newBuilder()
+                .refreshAfterWrite(celebrityRefresh)
+                .build(key -> loadCelebrities());
+    }
+
+    @Override
+    public void destroy() {
+        fanOutExecutor.shutdown();
+    }
+
+    @Override
+    public PageResponse<PostResponse> getFeed(String userId, String cursor, int size) {
+        KeysetCursor before = cursor == null || cursor.isBlank() ? null : KeysetCursor.decode(cursor);
+
+        List<TimelineEntry> candidates = hotTimelines.get(userId, this::loadTimeline).stream()
+                .filter(entry -> isBefore(entry, before))
+                .limit(size + 1L)
+                .collect(Collectors.toCollection(ArrayList::new));
+
+        Map<String, Post> posts = new HashMap<>();
+        List<String> celebrityAuthors = followedCelebrities(userId);
+        if (!celebrityAuthors.isEmpty()) {
+            for (Post post : mongoTemplate.find(recentPosts(celebrityAuthors, before, size + 1), Post.class)) {
+                posts.put(post.getId(), post);
+                candidates.add(TimelineEntry.of(post));
+            }
+        }
+
+        // An author who just became a celebrity can have the same post in both sources
+        Set<String> seen = new HashSet<>();
+        List<TimelineEntry> page = candidates.stream()
+                .sorted(NEWEST_FIRST)
+                .filter(entry -> seen.add(entry.getPostId()))
+                .limit(size + 1L)
+                .toList();
+
+        String nextCursor = null;
+        if (page.size() > size) {
+            page = page.subList(0, size);
+            TimelineEntry last = page.get(size - 1);
+            nextCursor = KeysetCursor.of(last.getCreatedAt(), last.getPostId()).encode();
+        }
+
+        List<String> missing = page.stream()
+                .map(TimelineEntry::getPostId)
+                .filter(postId -> !posts.containsKey(postId))
+                .toList();
+        postRepository.findAllById(missing).forEach(post -> posts.put(post.getId(), post));
+
+        // Entries of deleted posts are dropped here
+        List<PostResponse> content = page.stream()
+                .map(entry -> posts.get(entry.getPostId()))
+                .filter(Objects::nonNull)
+                .map(PostResponse::from)
+                .toList();
+        postLikeService.markLiked(userId, content);
+        return PageResponse.fromCursor(content, size, before == null, nextCursor, null);
+    }
+
+    @Override
+    public void publish(Post post) {
+        if (isCelebrity(post.getUserId())) {
+            log.debug("Post {} is merged into feeds on read", post.getId());
+            return;
+        }
+        TimelineEntry entry = TimelineEntry.of(post);
+        // The author sees their own post right away; followers are reached in the background
+        push(List.of(post.getUserId()), entry);
+        fanOutExecutor.execute(() -> fanOut(entry));
+    }
+
+    @Override
+    public void onFollow(String followerId, String followeeId) {
+        if (isCelebrity(followeeId)) {
+            return;
+        }
+        Query query = Query.query(Criteria.where("userId").is(followeeId))
+                .with(Sort.by(Sort.Direction.DESC, "createdAt"))
+                .limit(followBackfill);
+        query.fields().include("id", "userId", "createdAt");
+        List<TimelineEntry> entries = mongoTemplate.find(query, Post.class).stream()
+                .map(TimelineEntry::of)
+                .toList();
+        if (entries.isEmpty()) {
+            return;
+        }
+        List<String> postIds = entries.stream().map(TimelineEntry::getPostId).toList();
+        // An update cannot $pull and $push the same array, so posts left over from an earlier
+        // backfill are dropped first and then pushed back in order
+        mongoTemplate.updateFirst(Query.query(Criteria.where("userId").is(followerId)),
+                new Update().pull("entries", new Document("postId", new Document("$in", postIds))), Timeline.class);
+        try {
+            mongoTemplate.upsert(withoutPosts(followerId, postIds), pushUpdate(entries.toArray()), Timeline.class);
+        } catch (DuplicateKeyException e) {
+            log.debug("Backfill for {} raced a fan-out of one of its posts", followerId);
+        }
+        hotTimelines.evict(followerId);
+    }
+
+    @Override
+    public void onUnfollow(String followerId, String followeeId) {
+        mongoTemplate.updateFirst(Query.query(Criteria.where("userId").is(followerId)),
+                new Update().pull("entries", new Document("authorId", followeeId)), Timeline.class);
+        hotTimelines.evict(followerId);
+    }
+
+    private void fanOut(TimelineEntry entry) {
+        Query query = Query.query(Criteria.where("followeeId").is(entry.getAuthorId()));
+        query.fields().include("followerId");
+
+        int delivered = 0;
+        List<String> batch = new ArrayList<>(FAN_OUT_BATCH_SIZE);
+        try (Stream<Follow> follows = mongoTemplate.stream(query, Follow.class)) {
+            for (Follow follow : (Iterable<Follow>) follows::iterator) {
+                batch.add(follow.getFollowerId());
+                if (batch.size() == FAN_OUT_BATCH_SIZE) {
+                    push(batch, entry);
+                    delivered += batch.size();
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                push(batch, entry);
+                delivered += batch.size();
+            }
+            log.debug("Post {} delivered to {} timelines", entry.getPostId(), delivered);
+        } catch (RuntimeException e) {
+            log.error("Fan-out of post {} stopped after {} timelines", entry.getPostId(), delivered, e);
+        }
+    }
+
+    private void push(List<String> userIds, TimelineEntry entry) {
+        Update update = pushUpdate(entry);
+        List<String> postIds = List.of(entry.getPostId());
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Timeline.class);
+        userIds.forEach(userId -> bulkOps.upsert(withoutPosts(userId, postIds), update));
+        try {
+            bulkOps.execute();
+        } catch (BulkOperationException e) {
+            // Duplicate keys are timelines that already had the post, e.g. on a retried fan-out
+            if (e.getErrors().isEmpty() || e.getErrors().stream().anyMatch(error -> error.getCode() != DUPLICATE_KEY)) {
+                throw e;
+            }
+        }
+        hotTimelines.evictAll(userIds);
+    }
+
+    /**
+     * Matches the timeline only while it holds none of the posts, which makes pushing them idempotent.
+     * On a timeline that already holds one, the upsert turns into an insert of an existing _id and
+     * fails with a duplicate key error instead of storing the post twice.
+     */
+    static Query withoutPosts(String userId, List<String> postIds) {
+        return Query.query(Criteria.where("userId").is(userId).and("entries.postId").nin(postIds));
+    }
+
+    // Keeps each timeline sorted newest first and capped, so it never grows with the follow graph
+    private Update pushUpdate(Object... entries) {
+        return new Update().push("entries")
+                .sort(Sort.by(Sort.Direction.DESC, "createdAt"))
+                .slice(maxEntries)
+                .each(entries);
+    }
+
+    /**
+     * Bounded pool for follower fan-outs. When its queue is full the fan-out runs on the posting
+     * thread, which slows down posting during a burst instead of queuing without limit or dropping
+     * deliveries.
+     */
+    private static ThreadPoolTaskExecutor fanOutExecutor(int threads, int queueCapacity, MeterRegistry meterRegistry) {
+        Counter callerRuns = Counter.builder("feed.fan_out.caller_runs")
+                .description("Fan-outs run on the posting thread because the fan-out queue was full")
+                .register(meterRegistry);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("feed-fan-out-");
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            if (!pool.isShutdown()) {
+                callerRuns.increment();
+                task.run();
+            }
+        });
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        ExecutorServiceMetrics.monitor(meterRegistry, executor.getThreadPoolExecutor(), "feed_fan_out");
+        return executor;
+    }
+
+    private List<TimelineEntry> loadTimeline(String userId) {
+        Timeline timeline = mongoTemplate.findById(userId, Timeline.class);
+        if (timeline == null || timeline.getEntries() == null) {
+            return List.of();
+        }
+        return timeline.getEntries().stream().sorted(NEWEST_FIRST).toList();
+    }
+
+    private List<String> followedCelebrities(String userId) {
+        Set<String> celebrityIds = celebrities.get(CELEBRITIES);
+        if (celebrityIds.isEmpty()) {
+            return List.of();
+        }
+        Query query = Query.query(Criteria.where("followerId").is(userId).and("followeeId").in(celebrityIds));
+        query.fields().include("followeeId");
+
+        List<String> authors = new ArrayList<>();
+        if (celebrityIds.contains(userId)) {
+            authors.add(userId);
+        }
+        mongoTemplate.find(query, Follow.class).forEach(follow -> authors.add(follow.getFolloweeId()));
+        return authors;
+    }
+
+    private Query recentPosts(List<String> authorIds, KeysetCursor before, int limit) {
+        Criteria criteria = Criteria.where("userId").in(authorIds);
+        if (before != null) {
+            criteria.orOperator(
+                    Criteria.where("createdAt").lt(before.timestamp()),
+                    new Criteria().andOperator(
+                            Criteria.where("createdAt").is(before.timestamp()),
+                            Criteria.where("id").lt(before.id())));
+        }
+        return Query.query(criteria)
+                .with(Sort.by(Sort.Direction.DESC, "createdAt", "id"))
+                .limit(limit);
+    }
+
+    private boolean isCelebrity(String userId) {
+        return celebrities.get(CELEBRITIES).contains(userId);
+    }
+
+    private Set<String> loadCelebrities() {
+        Query query = Query.query(Criteria.where("followersCount").gte(celebrityThreshold));
+        query.fields().include("id");
+        return mongoTemplate.find(query, User.class).stream()
+                .map(User::getId)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private static boolean isBefore(TimelineEntry entry, KeysetCursor before) {
+        if (before == null) {
+            return true;
+        }
+        int byTime = entry.getCreatedAt().compareTo(before.timestamp());
+        return byTime < 0 || (byTime == 0 && entry.getPostId().compareTo(before.id().toHexString()) < 0);
+    }
+}
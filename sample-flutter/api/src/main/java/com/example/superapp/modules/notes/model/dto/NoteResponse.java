@@ -0,0 +1,41 @@
+package com.example.superapp.modules.notes.model.dto;
+
+import com.example.superapp.modules.notes.model.entity.Note;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NoteResponse {
+
+    private String id;
+    private String userId;
+    private String title;
+    private String content;
+    private List<String> tags;
+    private boolean pinned;
+    private boolean favorite;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static NoteResponse from(Note note) {
+        return NoteResponse.builder()
+                .id(note.getId())
+                .userId(note.getUserId())
+                .title(note.getTitle())
+                .content(note.getContent())
+                .tags(note.getTags())
+                .pinned(note.isPinned())
+                .favorite(note.isFavorite())
+                .createdAt(note.getCreatedAt())
+                .updatedAt(note.getUpdatedAt())
+                .build();
+    }
+}
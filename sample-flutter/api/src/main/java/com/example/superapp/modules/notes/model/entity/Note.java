@@ -7,8 +7,10 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
-import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.TextScore;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -18,12 +20,19 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "notes")
+@CompoundIndexes({
+        @CompoundIndex(name = "user_created_idx", def = "{'userId': 1, 'createdAt': -1}"),
+        @CompoundIndex(name = "user_pinned_created_idx", def = "{'userId': 1, 'isPinned': 1, 'createdAt': -1}"),
+        @CompoundIndex(name = "user_favorite_created_idx", def = "{'userId': 1, 'isFavorite': 1, 'createdAt': -1}"),
+        @CompoundIndex(name = "user_tags_created_idx", def = "{'userId': 1, 'tags': 1, 'createdAt': -1}"),
+        @CompoundIndex(name = "user_title_content_text_idx", def = "{'userId': 1, 'title': 'text', 'content': 'text'}"),
+        @CompoundIndex(name = "user_updated_idx", def = "{'userId': 1, 'updatedAt': 1, '_id': 1}")
+})
 public class Note {
 
     @Id
     private String id;
 
-    @Indexed
     private String userId;
 
     private String title;
@@ -43,4 +52,8 @@ public class Note {
 
     @LastModifiedDate
     private LocalDateTime updatedAt;
+
+    // Relevance of the document for a $text query; populated on search results only
+    @TextScore
+    private Float score;
 }
@@ -3,6 +3,7 @@ package com.example.superapp.modules.notes.repository;
 import com.example.superapp.modules.notes.model.entity.Note;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.query.TextCriteria;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -23,6 +24,5 @@ public interface NoteRepository extends MongoRepository<Note, String> {
     @Query("{ 'userId': ?0, 'tags': ?1 }")
     Page<Note> findByUserIdAndTag(String userId, String tag, Pageable pageable);
 
-    @Query("{ 'userId': ?0, $or: [ { 'title': { $regex: ?1, $options: 'i' } }, { 'content': { $regex: ?1, $options: 'i' } } ] }")
-    Page<Note> searchByUserIdAndKeyword(String userId, String keyword, Pageable pageable);
+    Page<Note> searchByUserIdOrderByScoreDesc(String userId, TextCriteria criteria, Pageable pageable);
 }
@@ -0,0 +1,90 @@
+package com.example.superapp.modules.posts.controller;
+
+import com.example.superapp.common.dto.ApiResponse;
+import com.example.superapp.common.dto.PageResponse;
+import com.example.superapp.modules.posts.model.dto.PostRequest;
+import com.example.superapp.modules.posts.model.dto.PostResponse;
+import com.example.superapp.modules.posts.service.PostLikeService;
+import com.example.superapp.modules.posts.service.PostService;
+import com.example.superapp.modules.users.model.entity.User;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/posts")
+@RequiredArgsConstructor
+@Tag(name = "Posts", description = "Social posts")
+public class PostController {
+
+    private final PostService postService;
+    private final PostLikeService postLikeService;
+
+    @PostMapping
+    @Operation(summary = "Create a post and deliver it to the followers' feeds")
+    public ResponseEntity<ApiResponse<PostResponse>> create(
+            @AuthenticationPrincipal User user,
+            @Valid @RequestBody PostRequest request) {
+        PostResponse response = postService.create(user.getId(), request);
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ApiResponse.success("Post created successfully", response));
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get post by ID")
+    public ResponseEntity<ApiResponse<PostResponse>> getById(
+            @AuthenticationPrincipal User user,
+            @PathVariable String id) {
+        return ResponseEntity.ok(ApiResponse.success(postService.getById(userId(user), id)));
+    }
+
+    @GetMapping("/user/{userId}")
+    @Operation(summary = "Get the posts of a user, newest first")
+    public ResponseEntity<ApiResponse<PageResponse<PostResponse>>> getByUser(
+            @AuthenticationPrincipal User user,
+            @PathVariable String userId,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        return ResponseEntity.ok(ApiResponse.success(postService.getByUser(userId(user), userId, pageable)));
+    }
+
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Delete post")
+    public ResponseEntity<ApiResponse<Void>> delete(
+            @AuthenticationPrincipal User user,
+            @PathVariable String id) {
+        postService.delete(user.getId(), id);
+        return ResponseEntity.ok(ApiResponse.success("Post deleted successfully"));
+    }
+
+    @PostMapping("/{id}/like")
+    @Operation(summary = "Like a post", description = "Idempotent; liking an already liked post changes nothing")
+    public ResponseEntity<ApiResponse<PostResponse>> like(
+            @AuthenticationPrincipal User user,
+            @PathVariable String id) {
+        return ResponseEntity.ok(ApiResponse.success(postLikeService.like(user.getId(), id)));
+    }
+
+    @DeleteMapping("/{id}/like")
+    @Operation(summary = "Remove a like from a post")
+    public ResponseEntity<ApiResponse<PostResponse>> unlike(
+            @AuthenticationPrincipal User user,
+            @PathVariable String id) {
+        return ResponseEntity.ok(ApiResponse.success(postLikeService.unlike(user.getId(), id)));
+    }
+
+    // Reads are public, so the caller may be anonymous
+    private static String userId(User user) {
+        return user != null ? user.getId() : null;
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.superapp.modules.posts.model.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostRequest {
+
+    @NotBlank(message = "Content is required")
+    @Size(max = 2000, message = "Content must not exceed 2000 characters")
+    private String content;
+
+    @Size(max = 10, message = "A post can have at most 10 images")
+    private List<String> images;
+}
@@ -0,0 +1,46 @@
+package com.example.superapp.modules.posts.model.dto;
+
+import com.example.superapp.common.dto.VersionStamped;
+import com.example.superapp.modules.posts.model.entity.Post;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostResponse implements VersionStamped {
+
+    private String id;
+    private String userId;
+    private String content;
+    private List<String> images;
+    private int likesCount;
+    private Boolean likedByMe;
+    private int commentsCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static PostResponse from(Post post) {
+        return PostResponse.builder()
+                .id(post.getId())
+                .userId(post.getUserId())
+                .content(post.getContent())
+                .images(post.getImages())
+                .likesCount(post.getLikesCount())
+                .commentsCount(post.getCommentsCount())
+                .createdAt(post.getCreatedAt())
+                .updatedAt(post.getUpdatedAt())
+                .build();
+    }
+
+    @Override
+    public String versionStamp() {
+        return id + ":" + updatedAt + ":" + likesCount + ":" + commentsCount + ":" + likedByMe;
+    }
+}
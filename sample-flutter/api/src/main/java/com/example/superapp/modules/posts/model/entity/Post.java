@@ -7,11 +7,12 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.IndexDirection;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 
 @Data
@@ -19,24 +20,26 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "posts")
+@CompoundIndex(name = "user_created_idx", def = "{'userId': 1, 'createdAt': -1}")
 public class Post {
 
     @Id
     private String id;
 
-    @Indexed
     private String userId;
 
     private String content;
 
     private List<String> images;
 
+    // Likes live in post_likes; only the count is kept on the post
     @Builder.Default
-    private List<String> likes = new ArrayList<>();
+    private int likesCount = 0;
 
     @Builder.Default
     private int commentsCount = 0;
 
+    @Indexed(direction = IndexDirection.DESCENDING)
     @CreatedDate
     private LocalDateTime createdAt;
 
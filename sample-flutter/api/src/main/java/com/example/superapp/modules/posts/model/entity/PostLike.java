@@ -0,0 +1,35 @@
+package com.example.superapp.modules.posts.model.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * One like of a post by a user. The unique index makes liking idempotent and also serves
+ * the "which of these posts did I like" lookup for a page of posts.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "post_likes")
+@CompoundIndex(name = "post_user_idx", def = "{'postId': 1, 'userId': 1}", unique = true)
+public class PostLike {
+
+    @Id
+    private String id;
+
+    private String postId;
+
+    private String userId;
+
+    @CreatedDate
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,20 @@
+package com.example.superapp.modules.posts.repository;
+
+import com.example.superapp.modules.posts.model.entity.PostLike;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PostLikeRepository extends MongoRepository<PostLike, String> {
+
+    long deleteByPostIdAndUserId(String postId, String userId);
+
+    long deleteByPostId(String postId);
+
+    @Query(value = "{ 'postId': { $in: ?0 }, 'userId': ?1 }", fields = "{ 'postId': 1 }")
+    List<PostLike> findByPostIdInAndUserId(Collection<String> postIds, String userId);
+}
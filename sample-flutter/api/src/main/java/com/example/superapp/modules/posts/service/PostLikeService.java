@@ -0,0 +1,19 @@
+package com.example.superapp.modules.posts.service;
+
+import com.example.superapp.modules.posts.model.dto.PostResponse;
+
+import java.util.List;
+
+public interface PostLikeService {
+
+    PostResponse like(String userId, String postId);
+
+    PostResponse unlike(String userId, String postId);
+
+    /**
+     * Sets likedByMe on every post of a page with a single lookup. Left unset for anonymous callers.
+     */
+    List<PostResponse> markLiked(String userId, List<PostResponse> posts);
+
+    void deleteAllForPost(String postId);
+}
@@ -0,0 +1,17 @@
+package com.example.superapp.modules.posts.service;
+
+import com.example.superapp.common.dto.PageResponse;
+import com.example.superapp.modules.posts.model.dto.PostRequest;
+import com.example.superapp.modules.posts.model.dto.PostResponse;
+import org.springframework.data.domain.Pageable;
+
+public interface PostService {
+
+    PostResponse create(String userId, PostRequest request);
+
+    PostResponse getById(String viewerId, String postId);
+
+    PageResponse<PostResponse> getByUser(String viewerId, String userId, Pageable pageable);
+
+    void delete(String userId, String postId);
+}
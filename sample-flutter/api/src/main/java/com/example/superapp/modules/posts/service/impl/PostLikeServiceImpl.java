@@ -0,0 +1,100 @@
+package com.example.superapp.modules.posts.service.impl;
+
+import com.example.superapp.common.exception.ResourceNotFoundException;
+import com.example.superapp.modules.posts.model.dto.PostResponse;
+import com.example.superapp.modules.posts.model.entity.Post;
+import com.example.superapp.modules.posts.model.entity.PostLike;
+import com.example.superapp.modules.posts.repository.PostLikeRepository;
+import com.example.superapp.modules.posts.service.PostLikeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostLikeServiceImpl implements PostLikeService {
+
+    private final PostLikeRepository postLikeRepository;
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public PostResponse like(String userId, String postId) {
+        if (!mongoTemplate.exists(byId(postId), Post.class)) {
+            throw new ResourceNotFoundException("Post", "id", postId);
+        }
+        try {
+            postLikeRepository.insert(PostLike.builder()
+                    .postId(postId)
+                    .userId(userId)
+                    .build());
+        } catch (DuplicateKeyException e) {
+            // Already liked; retries from the app must not count twice
+            return liked(postId, true);
+        }
+        log.debug("Post {} liked by user: {}", postId, userId);
+        return adjustCount(postId, 1, true);
+    }
+
+    @Override
+    public PostResponse unlike(String userId, String postId) {
+        if (postLikeRepository.deleteByPostIdAndUserId(postId, userId) == 0) {
+            return liked(postId, false);
+        }
+        log.debug("Post {} unliked by user: {}", postId, userId);
+        return adjustCount(postId, -1, false);
+    }
+
+    @Override
+    public List<PostResponse> markLiked(String userId, List<PostResponse> posts) {
+        if (userId == null || posts.isEmpty()) {
+            return posts;
+        }
+        List<String> postIds = posts.stream().map(PostResponse::getId).toList();
+        Set<String> liked = postLikeRepository.findByPostIdInAndUserId(postIds, userId).stream()
+                .map(PostLike::getPostId)
+                .collect(Collectors.toSet());
+        posts.forEach(post -> post.setLikedByMe(liked.contains(post.getId())));
+        return posts;
+    }
+
+    @Override
+    public void deleteAllForPost(String postId) {
+        postLikeRepository.deleteByPostId(postId);
+    }
+
+    private PostResponse adjustCount(String postId, int delta, boolean likedByMe) {
+        Post post = mongoTemplate.findAndModify(byId(postId), new Update().inc("likesCount", delta),
+                FindAndModifyOptions.options().returnNew(true), Post.class);
+        if (post == null) {
+            throw new ResourceNotFoundException("Post", "id", postId);
+        }
+        PostResponse response = PostResponse.from(post);
+        response.setLikedByMe(likedByMe);
+        return response;
+    }
+
+    private PostResponse liked(String postId, boolean likedByMe) {
+        Post post = mongoTemplate.findOne(byId(postId), Post.class);
+        if (post == null) {
+            throw new ResourceNotFoundException("Post", "id", postId);
+        }
+        PostResponse response = PostResponse.from(post);
+        response.setLikedByMe(likedByMe);
+        return response;
+    }
+
+    private static Query byId(String postId) {
+        return Query.query(Criteria.where("id").is(postId));
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.superapp.modules.posts.service.impl;
+
+import com.example.superapp.common.dto.PageResponse;
+import com.example.superapp.common.exception.ResourceNotFoundException;
+import com.example.superapp.modules.feed.service.FeedService;
+import com.example.superapp.modules.posts.model.dto.PostRequest;
+import com.example.superapp.modules.posts.model.dto.PostResponse;
+import com.example.superapp.modules.posts.model.entity.Post;
+import com.example.superapp.modules.posts.repository.PostRepository;
+import com.example.superapp.modules.posts.service.PostLikeService;
+import com.example.superapp.modules.posts.service.PostService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostServiceImpl implements PostService {
+
+    private final PostRepository postRepository;
+    private final FeedService feedService;
+    private final PostLikeService postLikeService;
+
+    @Override
+    public PostResponse create(String userId, PostRequest request) {
+        Post post = postRepository.save(Post.builder()
+                .userId(userId)
+                .content(request.getContent())
+                .images(request.getImages())
+                .build());
+        feedService.publish(post);
+        log.info("Post created: {} by user: {}", post.getId(), userId);
+        return PostResponse.from(post);
+    }
+
+    @Override
+    public PostResponse getById(String viewerId, String postId) {
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new ResourceNotFoundException("Post", "id", postId));
+        return postLikeService.markLiked(viewerId, List.of(PostResponse.from(post))).get(0);
+    }
+
+    @Override
+    public PageResponse<PostResponse> getByUser(String viewerId, String userId, Pageable pageable) {
+        Page<PostResponse> posts = postRepository.findByUserId(userId, pageable).map(PostResponse::from);
+        postLikeService.markLiked(viewerId, posts.getContent());
+        return PageResponse.from(posts);
+    }
+
+    @Override
+    public void delete(String userId, String postId) {
+        Post post = postRepository.findByIdAndUserId(postId, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Post", "id", postId));
+        // Timeline entries pointing at the post are skipped on read and age out of the capped buckets
+        postRepository.delete(post);
+        postLikeService.deleteAllForPost(postId);
+        log.info("Post deleted: {}", postId);
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.superapp.modules.products.controller;
+
+import com.example.superapp.common.dto.ApiResponse;
+import com.example.superapp.common.dto.PageResponse;
+import com.example.superapp.modules.products.model.dto.CategoryFacet;
+import com.example.superapp.modules.products.model.dto.ProductResponse;
+import com.example.superapp.modules.products.service.ProductService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/products")
+@RequiredArgsConstructor
+@Tag(name = "Products", description = "Product catalog")
+public class ProductController {
+
+    private final ProductService productService;
+
+    @GetMapping
+    @Operation(summary = "Get a page of products, optionally within one category",
+            description = "Sortable by name, price, rating and createdAt")
+    public ResponseEntity<ApiResponse<PageResponse<ProductResponse>>> getProducts(
+            @RequestParam(required = false) String category,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        return ResponseEntity.ok(ApiResponse.success(productService.getProducts(category, pageable)));
+    }
+
+    @GetMapping("/categories")
+    @Operation(summary = "Get the product categories with the number of products in each")
+    public ResponseEntity<ApiResponse<List<CategoryFacet>>> getCategories() {
+        return ResponseEntity.ok(ApiResponse.success(productService.getCategories()));
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get product by ID")
+    public ResponseEntity<ApiResponse<ProductResponse>> getById(@PathVariable String id) {
+        return ResponseEntity.ok(ApiResponse.success(productService.getById(id)));
+    }
+}
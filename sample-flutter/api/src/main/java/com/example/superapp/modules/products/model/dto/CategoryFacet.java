@@ -0,0 +1,22 @@
+package com.example.superapp.modules.products.model.dto;
+
+import com.example.superapp.common.dto.VersionStamped;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryFacet implements VersionStamped {
+
+    private String category;
+    private long count;
+
+    @Override
+    public String versionStamp() {
+        return category + ":" + count;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.superapp.modules.products.model.dto;
+
+import com.example.superapp.common.dto.VersionStamped;
+import com.example.superapp.modules.products.model.entity.Product;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductResponse implements VersionStamped {
+
+    private String id;
+    private String name;
+    private String description;
+    private BigDecimal price;
+    private List<String> images;
+    private String category;
+    private int stock;
+    private double rating;
+    private int reviewCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static ProductResponse from(Product product) {
+        return ProductResponse.builder()
+                .id(product.getId())
+                .name(product.getName())
+                .description(product.getDescription())
+                .price(product.getPrice())
+                .images(product.getImages())
+                .category(product.getCategory())
+                .stock(product.getStock())
+                .rating(product.getRating())
+                .reviewCount(product.getReviewCount())
+                .createdAt(product.getCreatedAt())
+                .updatedAt(product.getUpdatedAt())
+                .build();
+    }
+
+    @Override
+    public String versionStamp() {
+        return id + ":" + updatedAt;
+    }
+}
@@ -8,7 +8,9 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.index.TextIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.TextScore;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -25,8 +27,10 @@ public class Product {
     private String id;
 
     @Indexed
+    @TextIndexed(weight = 3)
     private String name;
 
+    @TextIndexed
     private String description;
 
     private BigDecimal price;
@@ -50,4 +54,8 @@ public class Product {
 
     @LastModifiedDate
     private LocalDateTime updatedAt;
+
+    // Relevance of the document for a $text query; populated on search results only
+    @TextScore
+    private Float score;
 }
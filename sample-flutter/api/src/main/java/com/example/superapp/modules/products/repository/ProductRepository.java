@@ -1,10 +1,12 @@
 package com.example.superapp.modules.products.repository;
 
+import com.example.superapp.modules.products.model.dto.CategoryFacet;
 import com.example.superapp.modules.products.model.entity.Product;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.repository.Aggregation;
 import org.springframework.data.mongodb.repository.MongoRepository;
-import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -14,8 +16,16 @@ public interface ProductRepository extends MongoRepository<Product, String> {
 
     Page<Product> findByCategory(String category, Pageable pageable);
 
-    @Query("{ 'name': { $regex: ?0, $options: 'i' } }")
-    Page<Product> searchByName(String keyword, Pageable pageable);
+    Page<Product> searchAllByOrderByScoreDesc(TextCriteria criteria, Pageable pageable);
 
-    List<Product> findDistinctCategoriesBy();
+    List<Product> findByNameRegex(String pattern, Pageable pageable);
+
+    // Counted on the server, so no product documents are loaded to derive the categories
+    @Aggregation(pipeline = {
+            "{ $match: { 'category': { $ne: null } } }",
+            "{ $group: { '_id': '$category', 'count': { $sum: 1 } } }",
+            "{ $project: { '_id': 0, 'category': '$_id', 'count': 1 } }",
+            "{ $sort: { 'category': 1 } }"
+    })
+    List<CategoryFacet> findCategoryFacets();
 }
@@ -0,0 +1,39 @@
+package com.example.superapp.modules.products.service;
+
+import com.example.superapp.modules.products.model.entity.Product;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evicts the catalog cache for every product saved or removed through the repository or
+ * MongoTemplate.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductCacheInvalidationListener extends AbstractMongoEventListener<Product> {
+
+    private final ProductCatalogCache productCatalogCache;
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<Product> event) {
+        productCatalogCache.evictProduct(event.getSource().getId());
+        productCatalogCache.evictListings();
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<Product> event) {
+        // A delete by id carries the id in its filter; any other filter may have matched many products
+        Document filter = event.getSource();
+        Object id = filter.get("_id");
+        if (filter.size() == 1 && id != null && !(id instanceof Document)) {
+            productCatalogCache.evictProduct(id.toString());
+        } else {
+            productCatalogCache.evictAllProducts();
+        }
+        productCatalogCache.evictListings();
+    }
+}
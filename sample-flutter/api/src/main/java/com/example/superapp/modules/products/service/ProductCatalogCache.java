@@ -0,0 +1,107 @@
+package com.example.superapp.modules.products.service;
+
+import com.example.superapp.common.dto.PageResponse;
+import com.example.superapp.modules.products.model.dto.CategoryFacet;
+import com.example.superapp.modules.products.model.dto.ProductResponse;
+import com.example.superapp.modules.products.repository.ProductRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Near-cache for the public catalog reads: product pages, product details and the category
+ * facets. Writes made in this process evict through {@link ProductCacheInvalidationListener};
+ * the TTL bounds staleness for writes made elsewhere.
+ * <p>
+ * Cached pages are bounded by the number of products they hold. Large pages and unknown
+ * categories, which an anonymous caller could vary at will, are loaded without being cached.
+ */
+@Component
+public class ProductCatalogCache {
+
+    private static final String FACETS_KEY = "all";
+
+    private final Cache<PageKey, PageResponse<ProductResponse>> pages;
+    private final Cache<String, ProductResponse> products;
+    private final LoadingCache<String, List<CategoryFacet>> facets;
+    private final int maxCachedPageSize;
+
+    public ProductCatalogCache(
+            MeterRegistry meterRegistry,
+            ProductRepository productRepository,
+            @Value("${products.cache.max-page-entries:50000}") long maxPageEntries,
+            @Value("${products.cache.max-page-size:100}") int maxCachedPageSize,
+            @Value("${products.cache.max-products:50000}") long maxProducts,
+            @Value("${products.cache.ttl:5m}") Duration ttl) {
+        this.maxCachedPageSize = maxCachedPageSize;
+        this.pages = Caffeine.newBuilder()
+                .maximumWeight(maxPageEntries)
+                .<PageKey, PageResponse<ProductResponse>>weigher((key, page) -> Math.max(page.getContent().size(), 1))
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.products = Caffeine.newBuilder()
+                .maximumSize(maxProducts)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        // Readers keep getting the previous counts while a refresh runs in the background
+        this.facets = Caffeine.newBuilder()
+                .refreshAfterWrite(ttl)
+                .recordStats()
+                .build(key -> productRepository.findCategoryFacets());
+        CaffeineCacheMetrics.monitor(meterRegistry, pages, "product_pages");
+        CaffeineCacheMetrics.monitor(meterRegistry, products, "products");
+        CaffeineCacheMetrics.monitor(meterRegistry, facets, "product_facets");
+    }
+
+    public PageResponse<ProductResponse> getPage(PageKey key, Function<PageKey, PageResponse<ProductResponse>> loader) {
+        if (key.size() > maxCachedPageSize || (key.category() != null && !isKnownCategory(key.category()))) {
+            return loader.apply(key);
+        }
+        return pages.get(key, loader);
+    }
+
+    /**
+     * Returns the cached product, loading it on a miss. Missing products are not cached.
+     */
+    public ProductResponse getProduct(String productId, Function<String, ProductResponse> loader) {
+        return products.get(productId, loader);
+    }
+
+    public List<CategoryFacet> getFacets() {
+        return facets.get(FACETS_KEY);
+    }
+
+    private boolean isKnownCategory(String category) {
+        return getFacets().stream().anyMatch(facet -> category.equals(facet.getCategory()));
+    }
+
+    public void evictProduct(String productId) {
+        products.invalidate(productId);
+    }
+
+    public void evictAllProducts() {
+        products.invalidateAll();
+    }
+
+    /**
+     * Drops every cached page and recounts the facets. A write can move a product between
+     * categories or reorder any listing, and writes are rare, so no finer tracking is kept.
+     */
+    public void evictListings() {
+        pages.invalidateAll();
+        facets.refresh(FACETS_KEY);
+    }
+
+    public record PageKey(String category, int page, int size, String sort) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.superapp.modules.products.service;
+
+import com.example.superapp.common.dto.PageResponse;
+import com.example.superapp.modules.products.model.dto.CategoryFacet;
+import com.example.superapp.modules.products.model.dto.ProductResponse;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+public interface ProductService {
+
+    PageResponse<ProductResponse> getProducts(String category, Pageable pageable);
+
+    ProductResponse getById(String productId);
+
+    List<CategoryFacet> getCategories();
+}
@@ -0,0 +1,62 @@
+package com.example.superapp.modules.products.service.impl;
+
+import com.example.superapp.common.dto.PageResponse;
+import com.example.superapp.common.exception.BusinessException;
+import com.example.superapp.common.exception.ResourceNotFoundException;
+import com.example.superapp.modules.products.model.dto.CategoryFacet;
+import com.example.superapp.modules.products.model.dto.ProductResponse;
+import com.example.superapp.modules.products.repository.ProductRepository;
+import com.example.superapp.modules.products.service.ProductCatalogCache;
+import com.example.superapp.modules.products.service.ProductService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class ProductServiceImpl implements ProductService {
+
+    // Listings are cached per sort, so only these fields are accepted
+    private static final Set<String> SORTABLE_FIELDS = Set.of("name", "price", "rating", "createdAt");
+
+    private final ProductRepository productRepository;
+    private final ProductCatalogCache productCatalogCache;
+
+    @Override
+    public PageResponse<ProductResponse> getProducts(String category, Pageable pageable) {
+        for (Sort.Order order : pageable.getSort()) {
+            if (!SORTABLE_FIELDS.contains(order.getProperty())) {
+                throw new BusinessException("Products cannot be sorted by " + order.getProperty());
+            }
+        }
+        ProductCatalogCache.PageKey key = new ProductCatalogCache.PageKey(
+                category, pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort().toString());
+        return productCatalogCache.getPage(key, k -> loadPage(category, pageable));
+    }
+
+    @Override
+    public ProductResponse getById(String productId) {
+        ProductResponse product = productCatalogCache.getProduct(productId, id -> productRepository.findById(id)
+                .map(ProductResponse::from)
+                .orElse(null));
+        if (product == null) {
+            throw new ResourceNotFoundException("Product", "id", productId);
+        }
+        return product;
+    }
+
+    @Override
+    public List<CategoryFacet> getCategories() {
+        return productCatalogCache.getFacets();
+    }
+
+    private PageResponse<ProductResponse> loadPage(String category, Pageable pageable) {
+        return PageResponse.from(category == null
+                ? productRepository.findAll(pageable).map(ProductResponse::from)
+                : productRepository.findByCategory(category, pageable).map(ProductResponse::from));
+    }
+}
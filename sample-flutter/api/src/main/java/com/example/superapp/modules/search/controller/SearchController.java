@@ -0,0 +1,51 @@
+package com.example.superapp.modules.search.controller;
+
+import com.example.superapp.common.dto.ApiResponse;
+import com.example.superapp.modules.search.model.dto.SearchResult;
+import com.example.superapp.modules.search.service.SearchService;
+import com.example.superapp.modules.users.model.entity.User;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+@Validated
+@RestController
+@Profile("!reactive")
+@RequestMapping("/search")
+@RequiredArgsConstructor
+@Tag(name = "Search", description = "Full-text search across tasks, notes and products")
+public class SearchController {
+
+    private final SearchService searchService;
+
+    @GetMapping
+    @Operation(summary = "Search the user's tasks and notes and the product catalog, ranked by relevance")
+    public ResponseEntity<ApiResponse<List<SearchResult>>> search(
+            @AuthenticationPrincipal User user,
+            @RequestParam @NotBlank String q,
+            @RequestParam(required = false) Set<SearchResult.Type> types,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int limit) {
+        Set<SearchResult.Type> scope = types == null || types.isEmpty() ? EnumSet.allOf(SearchResult.Type.class) : types;
+        return ResponseEntity.ok(ApiResponse.success(searchService.search(user.getId(), q, scope, limit)));
+    }
+
+    @GetMapping("/suggest")
+    @Operation(summary = "Suggest products whose name starts with the given prefix (case-sensitive)")
+    public ResponseEntity<ApiResponse<List<SearchResult>>> suggest(
+            @RequestParam @NotBlank String prefix,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(50) int limit) {
+        return ResponseEntity.ok(ApiResponse.success(searchService.suggestProducts(prefix, limit)));
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.superapp.modules.search.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchResult {
+
+    private Type type;
+    private String id;
+    private String title;
+    private String summary;
+    private float score;
+
+    public enum Type {
+        TASK, NOTE, PRODUCT
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.superapp.modules.search.service;
+
+import com.example.superapp.modules.search.model.dto.SearchResult;
+
+import java.util.List;
+import java.util.Set;
+
+public interface SearchService {
+
+    List<SearchResult> search(String userId, String query, Set<SearchResult.Type> types, int limit);
+
+    List<SearchResult> suggestProducts(String prefix, int limit);
+}
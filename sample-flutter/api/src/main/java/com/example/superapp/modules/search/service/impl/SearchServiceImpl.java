@@ -0,0 +1,107 @@
+package com.example.superapp.modules.search.service.impl;
+
+import com.example.superapp.common.search.SearchQueryCompiler;
+import com.example.superapp.modules.notes.model.entity.Note;
+import com.example.superapp.modules.notes.repository.NoteRepository;
+import com.example.superapp.modules.products.model.entity.Product;
+import com.example.superapp.modules.products.repository.ProductRepository;
+import com.example.superapp.modules.search.model.dto.SearchResult;
+import com.example.superapp.modules.search.service.SearchService;
+import com.example.superapp.modules.tasks.model.entity.Task;
+import com.example.superapp.modules.tasks.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class SearchServiceImpl implements SearchService {
+
+    private static final int SUMMARY_LENGTH = 160;
+
+    private final TaskRepository taskRepository;
+    private final NoteRepository noteRepository;
+    private final ProductRepository productRepository;
+    private final SearchQueryCompiler searchQueryCompiler;
+
+    @Override
+    public List<SearchResult> suggestProducts(String prefix, int limit) {
+        return productRepository.findByNameRegex(searchQueryCompiler.toPrefixRegex(prefix),
+                        PageRequest.of(0, limit, Sort.by("name")))
+                .stream()
+                .map(this::toResult)
+                .toList();
+    }
+
+    @Override
+    public List<SearchResult> search(String userId, String query, Set<SearchResult.Type> types, int limit) {
+        TextCriteria criteria = searchQueryCompiler.toTextCriteria(query);
+        Pageable topHits = PageRequest.of(0, limit);
+        List<SearchResult> results = new ArrayList<>();
+
+        if (types.contains(SearchResult.Type.TASK)) {
+            taskRepository.searchByUserIdOrderByScoreDesc(userId, criteria, topHits)
+                    .forEach(task -> results.add(toResult(task)));
+        }
+        if (types.contains(SearchResult.Type.NOTE)) {
+            noteRepository.searchByUserIdOrderByScoreDesc(userId, criteria, topHits)
+                    .forEach(note -> results.add(toResult(note)));
+        }
+        if (types.contains(SearchResult.Type.PRODUCT)) {
+            productRepository.searchAllByOrderByScoreDesc(criteria, topHits)
+                    .forEach(product -> results.add(toResult(product)));
+        }
+
+        results.sort(Comparator.comparing(SearchResult::getScore).reversed());
+        return results.size() > limit ? results.subList(0, limit) : results;
+    }
+
+    private SearchResult toResult(Task task) {
+        return SearchResult.builder()
+                .type(SearchResult.Type.TASK)
+                .id(task.getId())
+                .title(task.getTitle())
+                .summary(summarize(task.getDescription()))
+                .score(scoreOf(task.getScore()))
+                .build();
+    }
+
+    private SearchResult toResult(Note note) {
+        return SearchResult.builder()
+                .type(SearchResult.Type.NOTE)
+                .id(note.getId())
+                .title(note.getTitle())
+                .summary(summarize(note.getContent()))
+                .score(scoreOf(note.getScore()))
+                .build();
+    }
+
+    private SearchResult toResult(Product product) {
+        return SearchResult.builder()
+                .type(SearchResult.Type.PRODUCT)
+                .id(product.getId())
+                .title(product.getName())
+                .summary(summarize(product.getDescription()))
+                .score(scoreOf(product.getScore()))
+                .build();
+    }
+
+    private String summarize(String text) {
+        if (text == null || text.length() <= SUMMARY_LENGTH) {
+            return text;
+        }
+        return text.substring(0, SUMMARY_LENGTH) + "...";
+    }
+
+    private float scoreOf(Float score) {
+        return score != null ? score : 0f;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.superapp.modules.sync.controller;
+
+import com.example.superapp.common.dto.ApiResponse;
+import com.example.superapp.modules.sync.model.dto.SyncResponse;
+import com.example.superapp.modules.sync.service.SyncService;
+import com.example.superapp.modules.users.model.entity.User;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Validated
+@RestController
+@Profile("!reactive")
+@RequestMapping("/sync")
+@RequiredArgsConstructor
+@Tag(name = "Sync", description = "Delta sync of tasks and notes for offline clients")
+public class SyncController {
+
+    private final SyncService syncService;
+
+    @GetMapping
+    @Operation(summary = "Get tasks and notes changed or deleted since a change token",
+            description = "Omit the token for an initial sync. Each collection returns at most limit changes; "
+                    + "keep calling with the returned token while hasMore is true")
+    public ResponseEntity<ApiResponse<SyncResponse>> sync(
+            @AuthenticationPrincipal User user,
+            @RequestParam(required = false) String token,
+            @RequestParam(defaultValue = "200") @Min(1) @Max(500) int limit) {
+        return ResponseEntity.ok(ApiResponse.success(syncService.changesSince(user.getId(), token, limit)));
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.superapp.modules.sync.model.dto;
+
+import com.example.superapp.modules.sync.model.entity.Tombstone;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncDeletion {
+
+    private Tombstone.EntityType type;
+    private String id;
+    private LocalDateTime deletedAt;
+
+    public static SyncDeletion from(Tombstone tombstone) {
+        return SyncDeletion.builder()
+                .type(tombstone.getEntityType())
+                .id(tombstone.getEntityId())
+                .deletedAt(tombstone.getDeletedAt())
+                .build();
+    }
+}
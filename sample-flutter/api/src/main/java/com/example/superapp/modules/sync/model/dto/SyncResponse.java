@@ -0,0 +1,39 @@
+package com.example.superapp.modules.sync.model.dto;
+
+import com.example.superapp.modules.notes.model.dto.NoteResponse;
+import com.example.superapp.modules.tasks.model.dto.TaskResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncResponse {
+
+    private List<TaskResponse> tasks;
+    private List<NoteResponse> notes;
+    private List<SyncDeletion> deleted;
+
+    // Pass back on the next call; null when resetRequired is set
+    private String changeToken;
+
+    // More changes are pending; call again right away with the new token
+    private boolean hasMore;
+
+    // The token is older than the deletion history; drop local data and sync without a token
+    private boolean resetRequired;
+
+    public static SyncResponse reset() {
+        return SyncResponse.builder()
+                .tasks(List.of())
+                .notes(List.of())
+                .deleted(List.of())
+                .resetRequired(true)
+                .build();
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.superapp.modules.sync.model.dto;
+
+import com.example.superapp.common.exception.BusinessException;
+import com.example.superapp.common.pagination.KeysetCursor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque change token: the last synced position in each collection, plus the time up to which
+ * the client has seen every change (null while an initial sync is still paging).
+ */
+public record SyncToken(LocalDateTime syncedUpTo, KeysetCursor tasks, KeysetCursor notes, KeysetCursor deletions) {
+
+    private static final String SEPARATOR = ";";
+
+    public String encode() {
+        String raw = String.join(SEPARATOR,
+                syncedUpTo != null ? syncedUpTo.toString() : "",
+                encode(tasks), encode(notes), encode(deletions));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SyncToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, -1);
+            if (parts.length != 4) {
+                throw new BusinessException("Invalid change token");
+            }
+            return new SyncToken(
+                    parts[0].isEmpty() ? null : LocalDateTime.parse(parts[0]),
+                    decodeCursor(parts[1]), decodeCursor(parts[2]), decodeCursor(parts[3]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException("Invalid change token");
+        }
+    }
+
+    private static String encode(KeysetCursor cursor) {
+        return cursor != null ? cursor.encode() : "";
+    }
+
+    private static KeysetCursor decodeCursor(String cursor) {
+        return cursor.isEmpty() ? null : KeysetCursor.decode(cursor);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.superapp.modules.sync.model.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Marks a deleted document so that clients can drop it on their next delta sync.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "tombstones")
+@CompoundIndex(name = "user_deleted_idx", def = "{'userId': 1, 'deletedAt': 1, '_id': 1}")
+public class Tombstone {
+
+    // Change tokens older than this can no longer be served incrementally
+    public static final String RETENTION = "30d";
+
+    @Id
+    private String id;
+
+    private String userId;
+
+    private EntityType entityType;
+
+    private String entityId;
+
+    @Indexed(name = "deleted_ttl_idx", expireAfter = RETENTION)
+    private LocalDateTime deletedAt;
+
+    public enum EntityType {
+        TASK, NOTE
+    }
+}
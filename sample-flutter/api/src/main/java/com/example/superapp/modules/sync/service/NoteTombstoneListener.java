@@ -0,0 +1,35 @@
+package com.example.superapp.modules.sync.service;
+
+import com.example.superapp.modules.notes.model.entity.Note;
+import com.example.superapp.modules.sync.model.entity.Tombstone;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.BeforeDeleteEvent;
+import org.springframework.data.mongodb.core.query.BasicQuery;
+import org.springframework.stereotype.Component;
+
+import java.util.stream.Collectors;
+
+/**
+ * Records a tombstone for every note removed through the repository or MongoTemplate.
+ * The delete filter alone does not carry the owner, so the matching notes are looked up
+ * before they are gone.
+ */
+@Component
+@RequiredArgsConstructor
+public class NoteTombstoneListener extends AbstractMongoEventListener<Note> {
+
+    private final MongoTemplate mongoTemplate;
+    private final SyncService syncService;
+
+    @Override
+    public void onBeforeDelete(BeforeDeleteEvent<Note> event) {
+        BasicQuery query = new BasicQuery(event.getSource(), new Document("userId", 1));
+        mongoTemplate.find(query, Note.class).stream()
+                .collect(Collectors.groupingBy(Note::getUserId,
+                        Collectors.mapping(Note::getId, Collectors.toList())))
+                .forEach((userId, noteIds) -> syncService.recordDeletions(userId, Tombstone.EntityType.NOTE, noteIds));
+    }
+}
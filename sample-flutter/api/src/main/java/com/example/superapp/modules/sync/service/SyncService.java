@@ -0,0 +1,13 @@
+package com.example.superapp.modules.sync.service;
+
+import com.example.superapp.modules.sync.model.dto.SyncResponse;
+import com.example.superapp.modules.sync.model.entity.Tombstone;
+
+import java.util.Collection;
+
+public interface SyncService {
+
+    SyncResponse changesSince(String userId, String changeToken, int limit);
+
+    void recordDeletions(String userId, Tombstone.EntityType entityType, Collection<String> entityIds);
+}
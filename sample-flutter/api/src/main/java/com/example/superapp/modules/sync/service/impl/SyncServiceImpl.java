@@ -0,0 +1,137 @@
+package com.example.superapp.modules.sync.service.impl;
+
+import com.example.superapp.common.pagination.KeysetCursor;
+import com.example.superapp.modules.notes.model.dto.NoteResponse;
+import com.example.superapp.modules.notes.model.entity.Note;
+import com.example.superapp.modules.sync.model.dto.SyncDeletion;
+import com.example.superapp.modules.sync.model.dto.SyncResponse;
+import com.example.superapp.modules.sync.model.dto.SyncToken;
+import com.example.superapp.modules.sync.model.entity.Tombstone;
+import com.example.superapp.modules.sync.service.SyncService;
+import com.example.superapp.modules.tasks.mapper.TaskMapper;
+import com.example.superapp.modules.tasks.model.entity.Task;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+@Slf4j
+@Service
+public class SyncServiceImpl implements SyncService {
+
+    private static final Duration TOMBSTONE_RETENTION = DurationStyle.detectAndParse(Tombstone.RETENTION);
+    private static final ObjectId MIN_ID = new ObjectId("000000000000000000000000");
+
+    private final MongoTemplate mongoTemplate;
+    private final TaskMapper taskMapper;
+    private final Duration settleWindow;
+
+    public SyncServiceImpl(MongoTemplate mongoTemplate, TaskMapper taskMapper,
+                           @Value("${sync.settle-window:2s}") Duration settleWindow) {
+        this.mongoTemplate = mongoTemplate;
+        this.taskMapper = taskMapper;
+        this.settleWindow = settleWindow;
+    }
+
+    @Override
+    public SyncResponse changesSince(String userId, String changeToken, int limit) {
+        SyncToken since = changeToken == null || changeToken.isBlank() ? null : SyncToken.decode(changeToken);
+        if (since != null && since.syncedUpTo() != null
+                && since.syncedUpTo().isBefore(LocalDateTime.now().minus(TOMBSTONE_RETENTION))) {
+            return SyncResponse.reset();
+        }
+
+        // Writes stamped just before now may not be visible yet; leave them for the next sync
+        LocalDateTime upTo = LocalDateTime.now().minus(settleWindow);
+
+        Changes<Task> tasks = changedSince(Task.class, "updatedAt", userId, since != null ? since.tasks() : null,
+                upTo, limit, Task::getUpdatedAt, Task::getId);
+        Changes<Note> notes = changedSince(Note.class, "updatedAt", userId, since != null ? since.notes() : null,
+                upTo, limit, Note::getUpdatedAt, Note::getId);
+
+        // A client without a token holds nothing that could have been deleted
+        Changes<Tombstone> deletions = since == null
+                ? new Changes<>(List.of(), false, new KeysetCursor(upTo, MIN_ID))
+                : changedSince(Tombstone.class, "deletedAt", userId, since.deletions(),
+                        upTo, limit, Tombstone::getDeletedAt, Tombstone::getId);
+
+        boolean hasMore = tasks.hasMore() || notes.hasMore() || deletions.hasMore();
+        LocalDateTime syncedUpTo = hasMore ? (since != null ? since.syncedUpTo() : null) : upTo;
+        SyncToken next = new SyncToken(syncedUpTo, tasks.position(), notes.position(), deletions.position());
+
+        return SyncResponse.builder()
+                .tasks(tasks.items().stream().map(taskMapper::toResponse).toList())
+                .notes(notes.items().stream().map(NoteResponse::from).toList())
+                .deleted(deletions.items().stream().map(SyncDeletion::from).toList())
+                .changeToken(next.encode())
+                .hasMore(hasMore)
+                .build();
+    }
+
+    @Override
+    public void recordDeletions(String userId, Tombstone.EntityType entityType, Collection<String> entityIds) {
+        if (entityIds.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Tombstone> tombstones = entityIds.stream()
+                .map(entityId -> Tombstone.builder()
+                        .userId(userId)
+                        .entityType(entityType)
+                        .entityId(entityId)
+                        .deletedAt(now)
+                        .build())
+                .toList();
+        mongoTemplate.insert(tombstones, Tombstone.class);
+        log.debug("Recorded {} {} deletions for user: {}", tombstones.size(), entityType, userId);
+    }
+
+    /**
+     * Documents of the user changed after the given position and before the upper bound, oldest first.
+     * The returned position is the last document sent, or the given one when nothing changed.
+     */
+    private <T> Changes<T> changedSince(Class<T> type, String timeField, String userId, KeysetCursor after,
+                                        LocalDateTime upTo, int limit,
+                                        Function<T, LocalDateTime> timeOf, Function<T, String> idOf) {
+        Criteria criteria = Criteria.where("userId").is(userId);
+        if (after == null) {
+            criteria.and(timeField).lt(upTo);
+        } else {
+            criteria.andOperator(
+                    Criteria.where(timeField).lt(upTo),
+                    new Criteria().orOperator(
+                            Criteria.where(timeField).gt(after.timestamp()),
+                            new Criteria().andOperator(
+                                    Criteria.where(timeField).is(after.timestamp()),
+                                    Criteria.where("id").gt(after.id()))));
+        }
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Direction.ASC, timeField, "id"))
+                .limit(limit + 1);
+
+        List<T> items = mongoTemplate.find(query, type);
+        boolean hasMore = items.size() > limit;
+        if (hasMore) {
+            items = items.subList(0, limit);
+        }
+        if (items.isEmpty()) {
+            return new Changes<>(items, false, after);
+        }
+        T last = items.get(items.size() - 1);
+        return new Changes<>(items, hasMore, KeysetCursor.of(timeOf.apply(last), idOf.apply(last)));
+    }
+
+    private record Changes<T>(List<T> items, boolean hasMore, KeysetCursor position) {
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.superapp.modules.tasks.controller;
+
+import com.example.superapp.common.dto.ApiResponse;
+import com.example.superapp.common.dto.PageResponse;
+import com.example.superapp.modules.tasks.model.dto.TaskRequest;
+import com.example.superapp.modules.tasks.model.dto.TaskResponse;
+import com.example.superapp.modules.tasks.model.entity.Task;
+import com.example.superapp.modules.tasks.service.ReactiveTaskService;
+import com.example.superapp.modules.users.model.entity.User;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Validated
+@RestController
+@Profile("reactive")
+@RequestMapping("/tasks")
+@RequiredArgsConstructor
+@Tag(name = "Tasks", description = "Task management endpoints (reactive)")
+public class ReactiveTaskController {
+
+    private final ReactiveTaskService taskService;
+
+    @PostMapping
+    @Operation(summary = "Create a new task")
+    public Mono<ResponseEntity<ApiResponse<TaskResponse>>> create(
+            @AuthenticationPrincipal User user,
+            @Valid @RequestBody TaskRequest request) {
+        return taskService.create(user.getId(), request)
+                .map(response -> ResponseEntity
+                        .status(HttpStatus.CREATED)
+                        .body(ApiResponse.success("Task created successfully", response)));
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get task by ID")
+    public Mono<ResponseEntity<ApiResponse<TaskResponse>>> getById(
+            @AuthenticationPrincipal User user,
+            @PathVariable String id) {
+        return taskService.getById(user.getId(), id)
+                .map(response -> ResponseEntity.ok(ApiResponse.success(response)));
+    }
+
+    @GetMapping
+    @Operation(summary = "Get all tasks with filters")
+    public Mono<ResponseEntity<ApiResponse<PageResponse<TaskResponse>>>> getAll(
+            @AuthenticationPrincipal User user,
+            @RequestParam(required = false) Task.Status status,
+            @RequestParam(required = false) Task.Category category,
+            @RequestParam(required = false) String search,
+            @RequestParam(defaultValue = "0") @Min(0) int page,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        PageRequest pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+        return taskService.getAll(user.getId(), status, category, search, pageable)
+                .map(tasks -> ResponseEntity.ok(ApiResponse.success(tasks)));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all matching tasks as newline-delimited JSON, newest first")
+    public Flux<TaskResponse> stream(
+            @AuthenticationPrincipal User user,
+            @RequestParam(required = false) Task.Status status,
+            @RequestParam(required = false) Task.Category category,
+            @RequestParam(required = false) String search) {
+        return taskService.stream(user.getId(), status, category, search);
+    }
+
+    @PutMapping("/{id}")
+    @Operation(summary = "Update task")
+    public Mono<ResponseEntity<ApiResponse<TaskResponse>>> update(
+            @AuthenticationPrincipal User user,
+            @PathVariable String id,
+            @Valid @RequestBody TaskRequest request) {
+        return taskService.update(user.getId(), id, request)
+                .map(response -> ResponseEntity.ok(ApiResponse.success("Task updated successfully", response)));
+    }
+
+    @PatchMapping("/{id}/status")
+    @Operation(summary = "Update task status",
+            description = "When version is given the change is rejected with 409 if the task has been modified since")
+    public Mono<ResponseEntity<ApiResponse<TaskResponse>>> updateStatus(
+            @AuthenticationPrincipal User user,
+            @PathVariable String id,
+            @RequestParam Task.Status status,
+            @RequestParam(required = false) Long version) {
+        return taskService.updateStatus(user.getId(), id, status, version)
+                .map(response -> ResponseEntity.ok(ApiResponse.success("Task status updated", response)));
+    }
+
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Delete task")
+    public Mono<ResponseEntity<ApiResponse<Void>>> delete(
+            @AuthenticationPrincipal User user,
+            @PathVariable String id,
+            @RequestParam(required = false) Long version) {
+        return taskService.delete(user.getId(), id, version)
+                .thenReturn(ResponseEntity.ok(ApiResponse.success("Task deleted successfully")));
+    }
+}
@@ -1,9 +1,14 @@
 package com.example.superapp.modules.tasks.controller;
 
 import com.example.superapp.common.dto.ApiResponse;
+import com.example.superapp.common.dto.BatchRequest;
+import com.example.superapp.common.dto.BatchResponse;
+import com.example.superapp.common.dto.IdBatchRequest;
 import com.example.superapp.common.dto.PageResponse;
+import com.example.superapp.modules.tasks.model.dto.TaskBatchUpdate;
 import com.example.superapp.modules.tasks.model.dto.TaskRequest;
 import com.example.superapp.modules.tasks.model.dto.TaskResponse;
+import com.example.superapp.modules.tasks.model.dto.TaskStatusUpdate;
 import com.example.superapp.modules.tasks.model.entity.Task;
 import com.example.superapp.modules.tasks.service.TaskService;
 import com.example.superapp.modules.users.model.entity.User;
@@ -11,7 +16,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
@@ -21,6 +26,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/tasks")
 @RequiredArgsConstructor
 @Tag(name = "Tasks", description = "Task management endpoints")
@@ -49,15 +55,23 @@ public class TaskController {
     }
 
     @GetMapping
-    @Operation(summary = "Get all tasks with filters")
+    @Operation(summary = "Get all tasks with filters",
+            description = "Passing the cursor parameter (empty for the first page) switches to keyset pagination "
+                    + "ordered by newest first; totals are then only computed when withTotal is true")
     public ResponseEntity<ApiResponse<PageResponse<TaskResponse>>> getAll(
             @AuthenticationPrincipal User user,
             @RequestParam(required = false) Task.Status status,
             @RequestParam(required = false) Task.Category category,
             @RequestParam(required = false) String search,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean withTotal,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        Page<TaskResponse> tasks = taskService.getAll(user.getId(), status, category, search, pageable);
-        return ResponseEntity.ok(ApiResponse.success(PageResponse.from(tasks)));
+        if (cursor != null) {
+            return ResponseEntity.ok(ApiResponse.success(taskService.getAllByCursor(
+                    user.getId(), status, category, search, cursor, pageable.getPageSize(), withTotal)));
+        }
+        return ResponseEntity.ok(ApiResponse.success(
+                taskService.getAll(user.getId(), status, category, search, pageable)));
     }
 
     @PutMapping("/{id}")
@@ -71,12 +85,14 @@ public class TaskController {
     }
 
     @PatchMapping("/{id}/status")
-    @Operation(summary = "Update task status")
+    @Operation(summary = "Update task status",
+            description = "When version is given the change is rejected with 409 if the task has been modified since")
     public ResponseEntity<ApiResponse<TaskResponse>> updateStatus(
             @AuthenticationPrincipal User user,
             @PathVariable String id,
-            @RequestParam Task.Status status) {
-        TaskResponse response = taskService.updateStatus(user.getId(), id, status);
+            @RequestParam Task.Status status,
+            @RequestParam(required = false) Long version) {
+        TaskResponse response = taskService.updateStatus(user.getId(), id, status, version);
         return ResponseEntity.ok(ApiResponse.success("Task status updated", response));
     }
 
@@ -84,8 +100,46 @@ public class TaskController {
     @Operation(summary = "Delete task")
     public ResponseEntity<ApiResponse<Void>> delete(
             @AuthenticationPrincipal User user,
-            @PathVariable String id) {
-        taskService.delete(user.getId(), id);
+            @PathVariable String id,
+            @RequestParam(required = false) Long version) {
+        taskService.delete(user.getId(), id, version);
         return ResponseEntity.ok(ApiResponse.success("Task deleted successfully"));
     }
+
+    @PostMapping("/batch")
+    @Operation(summary = "Create tasks in batch",
+            description = "Runs as a single unordered bulk write; each item reports its own result by index")
+    public ResponseEntity<ApiResponse<BatchResponse<TaskResponse>>> createBatch(
+            @AuthenticationPrincipal User user,
+            @Valid @RequestBody BatchRequest<TaskRequest> request) {
+        BatchResponse<TaskResponse> response = taskService.createBatch(user.getId(), request.getItems());
+        return ResponseEntity.ok(ApiResponse.success("Batch processed", response));
+    }
+
+    @PutMapping("/batch")
+    @Operation(summary = "Update tasks in batch")
+    public ResponseEntity<ApiResponse<BatchResponse<TaskResponse>>> updateBatch(
+            @AuthenticationPrincipal User user,
+            @Valid @RequestBody BatchRequest<TaskBatchUpdate> request) {
+        BatchResponse<TaskResponse> response = taskService.updateBatch(user.getId(), request.getItems());
+        return ResponseEntity.ok(ApiResponse.success("Batch processed", response));
+    }
+
+    @PatchMapping("/status/batch")
+    @Operation(summary = "Update task statuses in batch")
+    public ResponseEntity<ApiResponse<BatchResponse<TaskResponse>>> updateStatusBatch(
+            @AuthenticationPrincipal User user,
+            @Valid @RequestBody BatchRequest<TaskStatusUpdate> request) {
+        BatchResponse<TaskResponse> response = taskService.updateStatusBatch(user.getId(), request.getItems());
+        return ResponseEntity.ok(ApiResponse.success("Batch processed", response));
+    }
+
+    @PostMapping("/batch/delete")
+    @Operation(summary = "Delete tasks in batch", description = "Takes the task ids as items")
+    public ResponseEntity<ApiResponse<BatchResponse<Void>>> deleteBatch(
+            @AuthenticationPrincipal User user,
+            @Valid @RequestBody IdBatchRequest request) {
+        BatchResponse<Void> response = taskService.deleteBatch(user.getId(), request.getItems());
+        return ResponseEntity.ok(ApiResponse.success("Batch processed", response));
+    }
 }
@@ -0,0 +1,12 @@
+package com.example.superapp.modules.tasks.mapper;
+
+import com.example.superapp.modules.tasks.model.dto.TaskResponse;
+import com.example.superapp.modules.tasks.model.entity.Task;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface TaskMapper {
+
+    TaskResponse toResponse(Task task);
+}
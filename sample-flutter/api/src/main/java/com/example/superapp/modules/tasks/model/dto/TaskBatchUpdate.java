@@ -0,0 +1,23 @@
+package com.example.superapp.modules.tasks.model.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBatchUpdate {
+
+    @NotBlank(message = "Task id is required")
+    private String id;
+
+    @Valid
+    @NotNull(message = "Task is required")
+    private TaskRequest task;
+}
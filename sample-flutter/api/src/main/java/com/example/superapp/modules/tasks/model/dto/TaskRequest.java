@@ -28,4 +28,7 @@ public class TaskRequest {
     private Task.Priority priority;
 
     private LocalDateTime dueDate;
+
+    // Expected current version on updates; the update is rejected when the task has moved on
+    private Long version;
 }
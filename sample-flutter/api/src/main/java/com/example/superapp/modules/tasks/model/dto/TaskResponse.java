@@ -1,5 +1,6 @@
 package com.example.superapp.modules.tasks.model.dto;
 
+import com.example.superapp.common.dto.VersionStamped;
 import com.example.superapp.modules.tasks.model.entity.Task;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -12,7 +13,7 @@ import java.time.LocalDateTime;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class TaskResponse {
+public class TaskResponse implements VersionStamped {
 
     private String id;
     private String userId;
@@ -24,4 +25,22 @@ public class TaskResponse {
     private LocalDateTime dueDate;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
+
+    @Override
+    public String versionStamp() {
+        return versionStamp(id, version, updatedAt);
+    }
+
+    /**
+     * The stamp of the task's response, computed without mapping it.
+     */
+    public static String versionStampOf(Task task) {
+        return versionStamp(task.getId(), task.getVersion(), task.getUpdatedAt());
+    }
+
+    // Every write bumps the version; tasks written before versioning fall back to updatedAt
+    private static String versionStamp(String id, Long version, LocalDateTime updatedAt) {
+        return id + ":" + (version != null ? version : updatedAt);
+    }
 }
@@ -0,0 +1,24 @@
+package com.example.superapp.modules.tasks.model.dto;
+
+import com.example.superapp.modules.tasks.model.entity.Task;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatusUpdate {
+
+    @NotBlank(message = "Task id is required")
+    private String id;
+
+    @NotNull(message = "Status is required")
+    private Task.Status status;
+
+    private Long version;
+}
@@ -7,8 +7,11 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
-import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.TextScore;
 
 import java.time.LocalDateTime;
 
@@ -17,12 +20,20 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "tasks")
+@CompoundIndexes({
+        @CompoundIndex(name = "user_created_idx", def = "{'userId': 1, 'createdAt': -1, '_id': -1}"),
+        @CompoundIndex(name = "user_status_created_idx", def = "{'userId': 1, 'status': 1, 'createdAt': -1}"),
+        @CompoundIndex(name = "user_category_created_idx", def = "{'userId': 1, 'category': 1, 'createdAt': -1}"),
+        @CompoundIndex(name = "user_status_category_created_idx",
+                def = "{'userId': 1, 'status': 1, 'category': 1, 'createdAt': -1}"),
+        @CompoundIndex(name = "user_title_text_idx", def = "{'userId': 1, 'title': 'text'}"),
+        @CompoundIndex(name = "user_updated_idx", def = "{'userId': 1, 'updatedAt': 1, '_id': 1}")
+})
 public class Task {
 
     @Id
     private String id;
 
-    @Indexed
     private String userId;
 
     private String title;
@@ -46,6 +57,14 @@ public class Task {
     @LastModifiedDate
     private LocalDateTime updatedAt;
 
+    // Incremented by every write; clients may send it back to reject edits made against a stale copy
+    @Version
+    private Long version;
+
+    // Relevance of the document for a $text query; populated on search results only
+    @TextScore
+    private Float score;
+
     public enum Category {
         WORK, PERSONAL, SHOPPING, HEALTH, OTHER
     }
@@ -0,0 +1,12 @@
+package com.example.superapp.modules.tasks.repository;
+
+import com.example.superapp.modules.tasks.model.entity.Task;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface ReactiveTaskRepository extends ReactiveMongoRepository<Task, String> {
+
+    Mono<Task> findByIdAndUserId(String id, String userId);
+}
@@ -0,0 +1,114 @@
+package com.example.superapp.modules.tasks.repository;
+
+import com.example.superapp.common.pagination.KeysetCursor;
+import com.example.superapp.common.search.SearchQueryCompiler;
+import com.example.superapp.modules.tasks.model.dto.TaskRequest;
+import com.example.superapp.modules.tasks.model.entity.Task;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds the task queries and updates shared by the blocking and the reactive task services.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskQueries {
+
+    private final SearchQueryCompiler searchQueryCompiler;
+
+    /**
+     * Filter on the owner plus optional status, category and full-text search.
+     * Returns a {@link TextQuery} when a search term is given.
+     */
+    public Query filter(String userId, Task.Status status, Task.Category category, String search) {
+        return newQuery(search).addCriteria(and(buildCriteria(userId, status, category)));
+    }
+
+    /**
+     * Newest-first keyset page starting after the given cursor position (or at the top when null).
+     */
+    public Query keysetPage(String userId, Task.Status status, Task.Category category, String search,
+                            KeysetCursor after, int limit) {
+        List<Criteria> criteriaList = buildCriteria(userId, status, category);
+        if (after != null) {
+            criteriaList.add(new Criteria().orOperator(
+                    Criteria.where("createdAt").lt(after.timestamp()),
+                    new Criteria().andOperator(
+                            Criteria.where("createdAt").is(after.timestamp()),
+                            Criteria.where("id").lt(after.id()))));
+        }
+        return newQuery(search)
+                .addCriteria(and(criteriaList))
+                .with(Sort.by(Sort.Direction.DESC, "createdAt", "id"))
+                .limit(limit);
+    }
+
+    /**
+     * A single task of the owner, optionally only while it is still at the expected version.
+     */
+    public Query owned(String userId, String taskId, Long expectedVersion) {
+        Criteria criteria = Criteria.where("id").is(taskId).and("userId").is(userId);
+        if (expectedVersion != null) {
+            criteria.and("version").is(expectedVersion);
+        }
+        return Query.query(criteria);
+    }
+
+    /**
+     * Field-level edit from a request; category and priority are only changed when given.
+     */
+    public Update edit(TaskRequest request) {
+        Update update = new Update()
+                .set("title", request.getTitle())
+                .set("description", request.getDescription())
+                .set("dueDate", request.getDueDate());
+        if (request.getCategory() != null) {
+            update.set("category", request.getCategory());
+        }
+        if (request.getPriority() != null) {
+            update.set("priority", request.getPriority());
+        }
+        return touch(update);
+    }
+
+    public Update statusChange(Task.Status status) {
+        return touch(Update.update("status", status));
+    }
+
+    // Auditing does not run for direct updates, so the version and timestamp are maintained here
+    private Update touch(Update update) {
+        return update.inc("version", 1).currentDate("updatedAt");
+    }
+
+    private Query newQuery(String search) {
+        if (search == null || search.isBlank()) {
+            return new Query();
+        }
+        return TextQuery.queryText(searchQueryCompiler.toTextCriteria(search));
+    }
+
+    private List<Criteria> buildCriteria(String userId, Task.Status status, Task.Category category) {
+        List<Criteria> criteriaList = new ArrayList<>();
+        criteriaList.add(Criteria.where("userId").is(userId));
+
+        if (status != null) {
+            criteriaList.add(Criteria.where("status").is(status));
+        }
+        if (category != null) {
+            criteriaList.add(Criteria.where("category").is(category));
+        }
+        return criteriaList;
+    }
+
+    private Criteria and(List<Criteria> criteriaList) {
+        return new Criteria().andOperator(criteriaList.toArray(new Criteria[0]));
+    }
+}
@@ -3,8 +3,8 @@ package com.example.superapp.modules.tasks.repository;
 import com.example.superapp.modules.tasks.model.entity.Task;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.query.TextCriteria;
 import org.springframework.data.mongodb.repository.MongoRepository;
-import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -21,8 +21,7 @@ public interface TaskRepository extends MongoRepository<Task, String> {
 
     Optional<Task> findByIdAndUserId(String id, String userId);
 
-    @Query("{ 'userId': ?0, 'title': { $regex: ?1, $options: 'i' } }")
-    Page<Task> searchByTitle(String userId, String keyword, Pageable pageable);
+    Page<Task> searchByUserIdOrderByScoreDesc(String userId, TextCriteria criteria, Pageable pageable);
 
     void deleteByIdAndUserId(String id, String userId);
 }
@@ -0,0 +1,27 @@
+package com.example.superapp.modules.tasks.service;
+
+import com.example.superapp.common.dto.PageResponse;
+import com.example.superapp.modules.tasks.model.dto.TaskRequest;
+import com.example.superapp.modules.tasks.model.dto.TaskResponse;
+import com.example.superapp.modules.tasks.model.entity.Task;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveTaskService {
+
+    Mono<TaskResponse> create(String userId, TaskRequest request);
+
+    Mono<TaskResponse> getById(String userId, String taskId);
+
+    Mono<PageResponse<TaskResponse>> getAll(String userId, Task.Status status, Task.Category category, String search,
+                                            Pageable pageable);
+
+    Flux<TaskResponse> stream(String userId, Task.Status status, Task.Category category, String search);
+
+    Mono<TaskResponse> update(String userId, String taskId, TaskRequest request);
+
+    Mono<TaskResponse> updateStatus(String userId, String taskId, Task.Status status, Long expectedVersion);
+
+    Mono<Void> delete(String userId, String taskId, Long expectedVersion);
+}
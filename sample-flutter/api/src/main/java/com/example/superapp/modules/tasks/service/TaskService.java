@@ -1,22 +1,38 @@
 package com.example.superapp.modules.tasks.service;
 
+import com.example.superapp.common.dto.BatchResponse;
+import com.example.superapp.common.dto.PageResponse;
+import com.example.superapp.modules.tasks.model.dto.TaskBatchUpdate;
 import com.example.superapp.modules.tasks.model.dto.TaskRequest;
 import com.example.superapp.modules.tasks.model.dto.TaskResponse;
+import com.example.superapp.modules.tasks.model.dto.TaskStatusUpdate;
 import com.example.superapp.modules.tasks.model.entity.Task;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface TaskService {
 
     TaskResponse create(String userId, TaskRequest request);
 
     TaskResponse getById(String userId, String taskId);
 
-    Page<TaskResponse> getAll(String userId, Task.Status status, Task.Category category, String search, Pageable pageable);
+    PageResponse<TaskResponse> getAll(String userId, Task.Status status, Task.Category category, String search, Pageable pageable);
+
+    PageResponse<TaskResponse> getAllByCursor(String userId, Task.Status status, Task.Category category, String search,
+                                              String cursor, int size, boolean withTotal);
 
     TaskResponse update(String userId, String taskId, TaskRequest request);
 
-    TaskResponse updateStatus(String userId, String taskId, Task.Status status);
+    TaskResponse updateStatus(String userId, String taskId, Task.Status status, Long expectedVersion);
+
+    void delete(String userId, String taskId, Long expectedVersion);
+
+    BatchResponse<TaskResponse> createBatch(String userId, List<TaskRequest> requests);
+
+    BatchResponse<TaskResponse> updateBatch(String userId, List<TaskBatchUpdate> updates);
+
+    BatchResponse<TaskResponse> updateStatusBatch(String userId, List<TaskStatusUpdate> updates);
 
-    void delete(String userId, String taskId);
+    BatchResponse<Void> deleteBatch(String userId, List<String> taskIds);
 }
@@ -0,0 +1,143 @@
+package com.example.superapp.modules.tasks.service.impl;
+
+import com.example.superapp.common.dto.PageResponse;
+import com.example.superapp.common.exception.ResourceNotFoundException;
+import com.example.superapp.modules.sync.model.entity.Tombstone;
+import com.example.superapp.modules.tasks.mapper.TaskMapper;
+import com.example.superapp.modules.tasks.model.dto.TaskRequest;
+import com.example.superapp.modules.tasks.model.dto.TaskResponse;
+import com.example.superapp.modules.tasks.model.entity.Task;
+import com.example.superapp.modules.tasks.repository.ReactiveTaskRepository;
+import com.example.superapp.modules.tasks.repository.TaskQueries;
+import com.example.superapp.modules.tasks.service.ReactiveTaskService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveTaskServiceImpl implements ReactiveTaskService {
+
+    private final ReactiveTaskRepository taskRepository;
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final TaskQueries taskQueries;
+    private final TaskMapper taskMapper;
+
+    @Override
+    public Mono<TaskResponse> create(String userId, TaskRequest request) {
+        Task task = Task.builder()
+                .userId(userId)
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .category(request.getCategory() != null ? request.getCategory() : Task.Category.OTHER)
+                .priority(request.getPriority() != null ? request.getPriority() : Task.Priority.MEDIUM)
+                .status(Task.Status.PENDING)
+                .dueDate(request.getDueDate())
+                .build();
+
+        return taskRepository.save(task)
+                .doOnNext(saved -> log.info("Task created: {} for user: {}", saved.getId(), userId))
+                .map(taskMapper::toResponse);
+    }
+
+    @Override
+    public Mono<TaskResponse> getById(String userId, String taskId) {
+        return findOwned(userId, taskId).map(taskMapper::toResponse);
+    }
+
+    @Override
+    public Mono<PageResponse<TaskResponse>> getAll(String userId, Task.Status status, Task.Category category,
+                                                   String search, Pageable pageable) {
+        Query query = taskQueries.filter(userId, status, category, search);
+        if (query instanceof TextQuery textQuery) {
+            textQuery.sortByScore();
+        }
+        query.with(pageable);
+
+        Mono<List<TaskResponse>> content = mongoTemplate.find(query, Task.class)
+                .map(taskMapper::toResponse)
+                .collectList();
+        Mono<Long> total = mongoTemplate.count(Query.of(query).limit(-1).skip(-1), Task.class);
+
+        return Mono.zip(content, total)
+                .map(result -> PageResponse.from(new PageImpl<>(result.getT1(), pageable, result.getT2())));
+    }
+
+    @Override
+    public Flux<TaskResponse> stream(String userId, Task.Status status, Task.Category category, String search) {
+        Query query = taskQueries.filter(userId, status, category, search)
+                .with(Sort.by(Sort.Direction.DESC, "createdAt"));
+        return mongoTemplate.find(query, Task.class).map(taskMapper::toResponse);
+    }
+
+    @Override
+    public Mono<TaskResponse> update(String userId, String taskId, TaskRequest request) {
+        return modify(userId, taskId, request.getVersion(), taskQueries.edit(request))
+                .doOnNext(task -> log.info("Task updated: {}", taskId))
+                .map(taskMapper::toResponse);
+    }
+
+    @Override
+    public Mono<TaskResponse> updateStatus(String userId, String taskId, Task.Status status, Long expectedVersion) {
+        return modify(userId, taskId, expectedVersion, taskQueries.statusChange(status))
+                .doOnNext(task -> log.info("Task status updated: {} to {}", taskId, status))
+                .map(taskMapper::toResponse);
+    }
+
+    @Override
+    public Mono<Void> delete(String userId, String taskId, Long expectedVersion) {
+        return mongoTemplate.remove(taskQueries.owned(userId, taskId, expectedVersion), Task.class)
+                .flatMap(result -> result.getDeletedCount() > 0
+                        ? recordDeletion(userId, taskId)
+                        : missingOrConflict(userId, taskId, expectedVersion))
+                .doOnSuccess(ignored -> log.info("Task deleted: {}", taskId));
+    }
+
+    // Same tombstone as SyncService.recordDeletions, written without blocking
+    private Mono<Void> recordDeletion(String userId, String taskId) {
+        return mongoTemplate.insert(Tombstone.builder()
+                        .userId(userId)
+                        .entityType(Tombstone.EntityType.TASK)
+                        .entityId(taskId)
+                        .deletedAt(LocalDateTime.now())
+                        .build())
+                .then();
+    }
+
+    private Mono<Task> modify(String userId, String taskId, Long expectedVersion, Update update) {
+        return mongoTemplate.findAndModify(taskQueries.owned(userId, taskId, expectedVersion), update,
+                        FindAndModifyOptions.options().returnNew(true), Task.class)
+                .switchIfEmpty(Mono.defer(() -> missingOrConflict(userId, taskId, expectedVersion)));
+    }
+
+    private <T> Mono<T> missingOrConflict(String userId, String taskId, Long expectedVersion) {
+        Mono<Boolean> exists = expectedVersion != null
+                ? mongoTemplate.exists(taskQueries.owned(userId, taskId, null), Task.class)
+                : Mono.just(false);
+        return exists.flatMap(found -> Mono.error(found
+                ? new OptimisticLockingFailureException("Task " + taskId + " was modified by another request")
+                : new ResourceNotFoundException("Task", "id", taskId)));
+    }
+
+    private Mono<Task> findOwned(String userId, String taskId) {
+        return taskRepository.findByIdAndUserId(taskId, userId)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Task", "id", taskId)));
+    }
+}
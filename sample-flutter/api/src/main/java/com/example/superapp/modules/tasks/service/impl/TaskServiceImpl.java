@@ -1,133 +1,332 @@
 package com.example.superapp.modules.tasks.service.impl;
 
+import com.example.superapp.common.dto.BatchItemResult;
+import com.example.superapp.common.dto.BatchResponse;
+import com.example.superapp.common.dto.MappedList;
+import com.example.superapp.common.dto.PageResponse;
 import com.example.superapp.common.exception.ResourceNotFoundException;
+import com.example.superapp.common.pagination.KeysetCursor;
+import com.example.superapp.modules.sync.model.entity.Tombstone;
+import com.example.superapp.modules.sync.service.SyncService;
+import com.example.superapp.modules.tasks.mapper.TaskMapper;
+import com.example.superapp.modules.tasks.model.dto.TaskBatchUpdate;
 import com.example.superapp.modules.tasks.model.dto.TaskRequest;
 import com.example.superapp.modules.tasks.model.dto.TaskResponse;
+import com.example.superapp.modules.tasks.model.dto.TaskStatusUpdate;
 import com.example.superapp.modules.tasks.model.entity.Task;
+import com.example.superapp.modules.tasks.repository.TaskQueries;
 import com.example.superapp.modules.tasks.repository.TaskRepository;
 import com.example.superapp.modules.tasks.service.TaskService;
+import com.mongodb.bulk.BulkWriteError;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class TaskServiceImpl implements TaskService {
 
+    private static final String CONFLICT = "Task was modified by another request";
+
     private final TaskRepository taskRepository;
     private final MongoTemplate mongoTemplate;
+    private final TaskQueries taskQueries;
+    private final SyncService syncService;
+    private final TaskMapper taskMapper;
 
     @Override
     public TaskResponse create(String userId, TaskRequest request) {
-        Task task = Task.builder()
-                .userId(userId)
-                .title(request.getTitle())
-                .description(request.getDescription())
-                .category(request.getCategory() != null ? request.getCategory() : Task.Category.OTHER)
-                .priority(request.getPriority() != null ? request.getPriority() : Task.Priority.MEDIUM)
-                .status(Task.Status.PENDING)
-                .dueDate(request.getDueDate())
-                .build();
-
-        task = taskRepository.save(task);
+        Task task = taskRepository.save(newTask(userId, request));
         log.info("Task created: {} for user: {}", task.getId(), userId);
-        return toResponse(task);
+        return taskMapper.toResponse(task);
     }
 
     @Override
     public TaskResponse getById(String userId, String taskId) {
         Task task = taskRepository.findByIdAndUserId(taskId, userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task", "id", taskId));
-        return toResponse(task);
+        return taskMapper.toResponse(task);
     }
 
     @Override
-    public Page<TaskResponse> getAll(String userId, Task.Status status, Task.Category category,
+    public PageResponse<TaskResponse> getAll(String userId, Task.Status status, Task.Category category,
                                       String search, Pageable pageable) {
-        List<Criteria> criteriaList = new ArrayList<>();
-        criteriaList.add(Criteria.where("userId").is(userId));
-
-        if (status != null) {
-            criteriaList.add(Criteria.where("status").is(status));
-        }
-        if (category != null) {
-            criteriaList.add(Criteria.where("category").is(category));
-        }
-        if (search != null && !search.isBlank()) {
-            criteriaList.add(Criteria.where("title").regex(search, "i"));
+        Query query = taskQueries.filter(userId, status, category, search);
+        if (query instanceof TextQuery textQuery) {
+            // Rank by relevance first, the requested sort only breaks ties
+            textQuery.sortByScore();
         }
-
-        Query query = new Query(new Criteria().andOperator(criteriaList.toArray(new Criteria[0])));
         query.with(pageable);
 
         List<Task> tasks = mongoTemplate.find(query, Task.class);
         long total = mongoTemplate.count(Query.of(query).limit(-1).skip(-1), Task.class);
 
         Page<Task> taskPage = PageableExecutionUtils.getPage(tasks, pageable, () -> total);
-        return taskPage.map(this::toResponse);
+        return PageResponse.from(taskPage, taskMapper::toResponse, TaskResponse::versionStampOf);
     }
 
     @Override
-    public TaskResponse update(String userId, String taskId, TaskRequest request) {
-        Task task = taskRepository.findByIdAndUserId(taskId, userId)
-                .orElseThrow(() -> new ResourceNotFoundException("Task", "id", taskId));
+    public PageResponse<TaskResponse> getAllByCursor(String userId, Task.Status status, Task.Category category,
+                                                     String search, String cursor, int size, boolean withTotal) {
+        Long total = withTotal
+                ? mongoTemplate.count(taskQueries.filter(userId, status, category, search), Task.class)
+                : null;
 
-        task.setTitle(request.getTitle());
-        task.setDescription(request.getDescription());
-        if (request.getCategory() != null) {
-            task.setCategory(request.getCategory());
-        }
-        if (request.getPriority() != null) {
-            task.setPriority(request.getPriority());
+        boolean first = cursor == null || cursor.isBlank();
+        KeysetCursor position = first ? null : KeysetCursor.decode(cursor);
+
+        // Fetch one extra document to find out whether another page follows
+        List<Task> tasks = mongoTemplate.find(
+                taskQueries.keysetPage(userId, status, category, search, position, size + 1), Task.class);
+
+        String nextCursor = null;
+        if (tasks.size() > size) {
+            tasks = tasks.subList(0, size);
+            Task lastTask = tasks.get(size - 1);
+            nextCursor = KeysetCursor.of(lastTask.getCreatedAt(), lastTask.getId()).encode();
         }
-        task.setDueDate(request.getDueDate());
 
-        task = taskRepository.save(task);
-        log.info("Task updated: {}", taskId);
-        return toResponse(task);
+        return PageResponse.fromCursor(MappedList.of(tasks, taskMapper::toResponse, TaskResponse::versionStampOf),
+                size, first, nextCursor, total);
     }
 
     @Override
-    public TaskResponse updateStatus(String userId, String taskId, Task.Status status) {
-        Task task = taskRepository.findByIdAndUserId(taskId, userId)
-                .orElseThrow(() -> new ResourceNotFoundException("Task", "id", taskId));
+    public TaskResponse update(String userId, String taskId, TaskRequest request) {
+        Task task = modify(userId, taskId, request.getVersion(), taskQueries.edit(request));
+        log.info("Task updated: {}", taskId);
+        return taskMapper.toResponse(task);
+    }
 
-        task.setStatus(status);
-        task = taskRepository.save(task);
+    @Override
+    public TaskResponse updateStatus(String userId, String taskId, Task.Status status, Long expectedVersion) {
+        Task task = modify(userId, taskId, expectedVersion, taskQueries.statusChange(status));
         log.info("Task status updated: {} to {}", taskId, status);
-        return toResponse(task);
+        return taskMapper.toResponse(task);
     }
 
     @Override
-    public void delete(String userId, String taskId) {
-        Task task = taskRepository.findByIdAndUserId(taskId, userId)
-                .orElseThrow(() -> new ResourceNotFoundException("Task", "id", taskId));
-        taskRepository.delete(task);
+    public void delete(String userId, String taskId, Long expectedVersion) {
+        long deleted = mongoTemplate.remove(taskQueries.owned(userId, taskId, expectedVersion), Task.class)
+                .getDeletedCount();
+        if (deleted == 0) {
+            throw missingOrConflict(userId, taskId, expectedVersion);
+        }
+        syncService.recordDeletions(userId, Tombstone.EntityType.TASK, List.of(taskId));
         log.info("Task deleted: {}", taskId);
     }
 
-    private TaskResponse toResponse(Task task) {
-        return TaskResponse.builder()
-                .id(task.getId())
-                .userId(task.getUserId())
-                .title(task.getTitle())
-                .description(task.getDescription())
-                .category(task.getCategory())
-                .priority(task.getPriority())
-                .status(task.getStatus())
-                .dueDate(task.getDueDate())
-                .createdAt(task.getCreatedAt())
-                .updatedAt(task.getUpdatedAt())
+    @Override
+    public BatchResponse<TaskResponse> createBatch(String userId, List<TaskRequest> requests) {
+        // Ids and timestamps are assigned here so every item can be reported without reading it back
+        LocalDateTime now = LocalDateTime.now();
+        List<Task> tasks = requests.stream()
+                .map(request -> {
+                    Task task = newTask(userId, request);
+                    task.setId(new ObjectId().toHexString());
+                    task.setCreatedAt(now);
+                    task.setUpdatedAt(now);
+                    task.setVersion(0L);
+                    return task;
+                })
+                .toList();
+
+        Map<Integer, String> errors = executeUnordered(
+                mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Task.class).insert(tasks)).errors();
+
+        List<BatchItemResult<TaskResponse>> results = new ArrayList<>(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            results.add(errors.containsKey(i)
+                    ? BatchItemResult.failure(i, null, errors.get(i))
+                    : BatchItemResult.success(i, task.getId(), taskMapper.toResponse(task)));
+        }
+        log.info("Batch of {} tasks created for user: {} ({} failed)", tasks.size(), userId, errors.size());
+        return BatchResponse.of(results);
+    }
+
+    @Override
+    public BatchResponse<TaskResponse> updateBatch(String userId, List<TaskBatchUpdate> updates) {
+        List<String> taskIds = updates.stream().map(TaskBatchUpdate::getId).toList();
+        List<Long> expectedVersions = updates.stream().map(update -> update.getTask().getVersion()).toList();
+        BatchResponse<TaskResponse> response = applyBatch(userId, taskIds, expectedVersions,
+                updates.stream().map(update -> taskQueries.edit(update.getTask())).toList());
+        log.info("Batch of {} tasks updated for user: {} ({} failed)", updates.size(), userId, response.getFailed());
+        return response;
+    }
+
+    @Override
+    public BatchResponse<TaskResponse> updateStatusBatch(String userId, List<TaskStatusUpdate> updates) {
+        List<String> taskIds = updates.stream().map(TaskStatusUpdate::getId).toList();
+        List<Long> expectedVersions = updates.stream().map(TaskStatusUpdate::getVersion).toList();
+        BatchResponse<TaskResponse> response = applyBatch(userId, taskIds, expectedVersions,
+                updates.stream().map(update -> taskQueries.statusChange(update.getStatus())).toList());
+        log.info("Batch of {} task statuses updated for user: {} ({} failed)", updates.size(), userId,
+                response.getFailed());
+        return response;
+    }
+
+    @Override
+    public BatchResponse<Void> deleteBatch(String userId, List<String> taskIds) {
+        // Bulk results only carry totals, so ownership is resolved up front to report each id
+        Query owned = Query.query(Criteria.where("id").in(taskIds).and("userId").is(userId));
+        owned.fields().include("id");
+        Map<String, Task> existing = mongoTemplate.find(owned, Task.class).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Task.class);
+        bulkOps.remove(taskIds.stream().map(taskId -> taskQueries.owned(userId, taskId, null)).toList());
+        Map<Integer, String> errors = executeUnordered(bulkOps).errors();
+
+        List<BatchItemResult<Void>> results = new ArrayList<>(taskIds.size());
+        Set<String> deleted = new LinkedHashSet<>();
+        for (int i = 0; i < taskIds.size(); i++) {
+            String taskId = taskIds.get(i);
+            if (errors.containsKey(i)) {
+                results.add(BatchItemResult.failure(i, taskId, errors.get(i)));
+            } else if (!existing.containsKey(taskId)) {
+                results.add(BatchItemResult.failure(i, taskId, "Task not found"));
+            } else {
+                results.add(BatchItemResult.success(i, taskId, null));
+                deleted.add(taskId);
+            }
+        }
+        syncService.recordDeletions(userId, Tombstone.EntityType.TASK, deleted);
+        log.info("Batch of {} tasks deleted for user: {} ({} failed)", taskIds.size(), userId, errors.size());
+        return BatchResponse.of(results);
+    }
+
+    private Task newTask(String userId, TaskRequest request) {
+        return Task.builder()
+                .userId(userId)
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .category(request.getCategory() != null ? request.getCategory() : Task.Category.OTHER)
+                .priority(request.getPriority() != null ? request.getPriority() : Task.Priority.MEDIUM)
+                .status(Task.Status.PENDING)
+                .dueDate(request.getDueDate())
                 .build();
     }
+
+    /**
+     * Applies the update to the caller's task and returns the new document in a single findAndModify.
+     */
+    private Task modify(String userId, String taskId, Long expectedVersion, Update update) {
+        Task task = mongoTemplate.findAndModify(taskQueries.owned(userId, taskId, expectedVersion), update,
+                FindAndModifyOptions.options().returnNew(true), Task.class);
+        if (task == null) {
+            throw missingOrConflict(userId, taskId, expectedVersion);
+        }
+        return task;
+    }
+
+    // Only runs after a write matched nothing, to tell a stale version apart from a missing task
+    private RuntimeException missingOrConflict(String userId, String taskId, Long expectedVersion) {
+        if (expectedVersion != null && mongoTemplate.exists(taskQueries.owned(userId, taskId, null), Task.class)) {
+            return new OptimisticLockingFailureException("Task " + taskId + " was modified by another request");
+        }
+        return new ResourceNotFoundException("Task", "id", taskId);
+    }
+
+    private Map<String, Task> findOwned(String userId, List<String> taskIds) {
+        return mongoTemplate.find(Query.query(Criteria.where("id").in(taskIds).and("userId").is(userId)), Task.class)
+                .stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+    }
+
+    /**
+     * Applies one update per task in a single bulkWrite. A bulk result only carries totals, so each
+     * item's outcome is read back from its version: a guarded update moves the task from the expected
+     * version to the next one. When the reread accounts for every operation that matched nothing,
+     * the outcome is exact. Otherwise a concurrent write moved one of the tasks as well, and guarded
+     * items whose version is already past the next one are reported as conflicts.
+     */
+    private BatchResponse<TaskResponse> applyBatch(String userId, List<String> taskIds, List<Long> expectedVersions,
+                                                   List<Update> updates) {
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Task.class);
+        for (int i = 0; i < taskIds.size(); i++) {
+            bulkOps.updateOne(taskQueries.owned(userId, taskIds.get(i), expectedVersions.get(i)), updates.get(i));
+        }
+        BulkOutcome outcome = executeUnordered(bulkOps);
+        Map<String, Task> tasks = findOwned(userId, taskIds);
+
+        Map<Integer, String> failures = new HashMap<>(outcome.errors());
+        Set<Integer> unsure = new HashSet<>();
+        // A version step can only be taken once, so a repeated id with the same expected version conflicts
+        Set<String> steps = new HashSet<>();
+        for (int i = 0; i < taskIds.size(); i++) {
+            Task task = tasks.get(taskIds.get(i));
+            Long expectedVersion = expectedVersions.get(i);
+            if (failures.containsKey(i)) {
+                continue;
+            }
+            if (task == null) {
+                failures.put(i, "Task not found");
+            } else if (expectedVersion != null) {
+                long version = task.getVersion() != null ? task.getVersion() : -1;
+                if (version <= expectedVersion || !steps.add(task.getId() + ":" + expectedVersion)) {
+                    failures.put(i, CONFLICT);
+                } else if (version > expectedVersion + 1) {
+                    unsure.add(i);
+                }
+            }
+        }
+        long unmatched = taskIds.size() - outcome.errors().size() - outcome.matched();
+        if (failures.size() - outcome.errors().size() < unmatched) {
+            unsure.forEach(i -> failures.put(i, CONFLICT));
+        }
+
+        List<BatchItemResult<TaskResponse>> results = new ArrayList<>(taskIds.size());
+        for (int i = 0; i < taskIds.size(); i++) {
+            String taskId = taskIds.get(i);
+            results.add(failures.containsKey(i)
+                    ? BatchItemResult.failure(i, taskId, failures.get(i))
+                    : BatchItemResult.success(i, taskId, taskMapper.toResponse(tasks.get(taskId))));
+        }
+        return BatchResponse.of(results);
+    }
+
+    /**
+     * Runs the operations in a single bulkWrite and returns how many matched, along with the error
+     * message of each failed operation by its index. Unordered mode keeps applying the remaining
+     * operations after a failure.
+     */
+    static BulkOutcome executeUnordered(BulkOperations bulkOps) {
+        try {
+            return new BulkOutcome(bulkOps.execute().getMatchedCount(), Map.of());
+        } catch (BulkOperationException ex) {
+            if (ex.getErrors().isEmpty()) {
+                throw ex;
+            }
+            return new BulkOutcome(ex.getResult().getMatchedCount(), ex.getErrors().stream()
+                    .collect(Collectors.toMap(BulkWriteError::getIndex, BulkWriteError::getMessage, (a, b) -> a)));
+        }
+    }
+
+    record BulkOutcome(int matched, Map<Integer, String> errors) {
+    }
 }
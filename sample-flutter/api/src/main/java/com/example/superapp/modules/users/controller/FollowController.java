@@ -0,0 +1,40 @@
+package com.example.superapp.modules.users.controller;
+
+import com.example.superapp.common.dto.ApiResponse;
+import com.example.superapp.modules.users.model.entity.User;
+import com.example.superapp.modules.users.service.FollowService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/users/{id}/follow")
+@RequiredArgsConstructor
+@Tag(name = "Follows", description = "Follow and unfollow users")
+public class FollowController {
+
+    private final FollowService followService;
+
+    @PostMapping
+    @Operation(summary = "Follow a user")
+    public ResponseEntity<ApiResponse<Void>> follow(
+            @AuthenticationPrincipal User user,
+            @PathVariable String id) {
+        followService.follow(user.getId(), id);
+        return ResponseEntity.ok(ApiResponse.success("User followed"));
+    }
+
+    @DeleteMapping
+    @Operation(summary = "Unfollow a user")
+    public ResponseEntity<ApiResponse<Void>> unfollow(
+            @AuthenticationPrincipal User user,
+            @PathVariable String id) {
+        followService.unfollow(user.getId(), id);
+        return ResponseEntity.ok(ApiResponse.success("User unfollowed"));
+    }
+}
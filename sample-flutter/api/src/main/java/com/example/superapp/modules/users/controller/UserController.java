@@ -0,0 +1,27 @@
+package com.example.superapp.modules.users.controller;
+
+import com.example.superapp.common.dto.ApiResponse;
+import com.example.superapp.modules.users.model.dto.UserResponse;
+import com.example.superapp.security.CurrentUserContext;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/users")
+@RequiredArgsConstructor
+@Tag(name = "Users", description = "User profiles")
+public class UserController {
+
+    private final CurrentUserContext currentUser;
+
+    @GetMapping("/me")
+    @Operation(summary = "Get the current user's profile")
+    public ResponseEntity<ApiResponse<UserResponse>> me() {
+        return ResponseEntity.ok(ApiResponse.success(currentUser.profile()));
+    }
+}
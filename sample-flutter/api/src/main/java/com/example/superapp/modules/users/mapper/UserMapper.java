@@ -0,0 +1,12 @@
+package com.example.superapp.modules.users.mapper;
+
+import com.example.superapp.modules.users.model.dto.UserResponse;
+import com.example.superapp.modules.users.model.entity.User;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface UserMapper {
+
+    UserResponse toResponse(User user);
+}
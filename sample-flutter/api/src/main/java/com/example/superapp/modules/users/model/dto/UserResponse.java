@@ -1,24 +1,23 @@
 package com.example.superapp.modules.users.model.dto;
 
-import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.Value;
 
 import java.time.LocalDateTime;
 
-@Data
+/**
+ * Public profile of a user. Immutable, so a single instance can be shared for the whole request.
+ */
+@Value
 @Builder
-@NoArgsConstructor
-@AllArgsConstructor
 public class UserResponse {
 
-    private String id;
-    private String email;
-    private String name;
-    private String bio;
-    private String avatar;
-    private int followersCount;
-    private int followingCount;
-    private LocalDateTime createdAt;
+    String id;
+    String email;
+    String name;
+    String bio;
+    String avatar;
+    int followersCount;
+    int followingCount;
+    LocalDateTime createdAt;
 }
@@ -0,0 +1,35 @@
+package com.example.superapp.modules.users.model.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "follows")
+@CompoundIndexes({
+        @CompoundIndex(name = "follower_followee_idx", def = "{'followerId': 1, 'followeeId': 1}", unique = true),
+        @CompoundIndex(name = "followee_follower_idx", def = "{'followeeId': 1, 'followerId': 1}")
+})
+public class Follow {
+
+    @Id
+    private String id;
+
+    private String followerId;
+
+    private String followeeId;
+
+    @CreatedDate
+    private LocalDateTime createdAt;
+}
@@ -18,7 +18,7 @@ import java.util.Collection;
 import java.util.List;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "users")
@@ -41,12 +41,19 @@ public class User implements UserDetails {
     @Builder.Default
     private Role role = Role.USER;
 
+    // Indexed for the feed's lookup of accounts that are too large to fan out to
+    @Indexed
     @Builder.Default
     private int followersCount = 0;
 
     @Builder.Default
     private int followingCount = 0;
 
+    // Bumped to revoke every token issued before the change; indexed for the registry's reload
+    @Indexed
+    @Builder.Default
+    private int tokenVersion = 0;
+
     @CreatedDate
     private LocalDateTime createdAt;
 
@@ -0,0 +1,17 @@
+package com.example.superapp.modules.users.repository;
+
+import com.example.superapp.modules.users.model.entity.Follow;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface FollowRepository extends MongoRepository<Follow, String> {
+
+    boolean existsByFollowerIdAndFolloweeId(String followerId, String followeeId);
+
+    long deleteByFollowerIdAndFolloweeId(String followerId, String followeeId);
+
+    long countByFollowerId(String followerId);
+
+    long countByFolloweeId(String followeeId);
+}
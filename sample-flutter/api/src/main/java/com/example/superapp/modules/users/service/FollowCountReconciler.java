@@ -0,0 +1,71 @@
+package com.example.superapp.modules.users.service;
+
+import com.example.superapp.modules.users.model.entity.User;
+import com.example.superapp.modules.users.repository.FollowRepository;
+import com.example.superapp.security.PrincipalCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Recounts the follower and following counters of users whose counter update failed, from the
+ * follows collection, which is the source of truth. Failed users are retried until a recount
+ * sticks, so a partial follow or unfollow cannot leave a counter wrong for good.
+ */
+@Slf4j
+@Component
+public class FollowCountReconciler {
+
+    private final FollowRepository followRepository;
+    private final MongoTemplate mongoTemplate;
+    private final PrincipalCache principalCache;
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    public FollowCountReconciler(FollowRepository followRepository, MongoTemplate mongoTemplate,
+                                 PrincipalCache principalCache, MeterRegistry meterRegistry) {
+        this.followRepository = followRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.principalCache = principalCache;
+        meterRegistry.gaugeCollectionSize("follow_counts.pending", List.of(), pending);
+    }
+
+    public void schedule(String... userIds) {
+        pending.addAll(List.of(userIds));
+    }
+
+    @Scheduled(fixedDelayString = "${users.follow-counts.reconcile-interval:PT1M}")
+    public void reconcile() {
+        for (String userId : List.copyOf(pending)) {
+            try {
+                if (recount(userId)) {
+                    pending.remove(userId);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Could not reconcile follow counts of user {}", userId, e);
+            }
+        }
+    }
+
+    /**
+     * Sets both counters from the follows collection. Returns false if a follow or unfollow
+     * changed the counts meanwhile, in which case the user is recounted on the next run.
+     */
+    private boolean recount(String userId) {
+        int following = Math.toIntExact(followRepository.countByFollowerId(userId));
+        int followers = Math.toIntExact(followRepository.countByFolloweeId(userId));
+        mongoTemplate.updateFirst(Query.query(Criteria.where("id").is(userId)),
+                new Update().set("followingCount", following).set("followersCount", followers), User.class);
+        principalCache.evictById(userId);
+        return following == followRepository.countByFollowerId(userId)
+                && followers == followRepository.countByFolloweeId(userId);
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.superapp.modules.users.service;
+
+public interface FollowService {
+
+    void follow(String followerId, String followeeId);
+
+    void unfollow(String followerId, String followeeId);
+}
@@ -0,0 +1,96 @@
+package com.example.superapp.modules.users.service.impl;
+
+import com.example.superapp.common.exception.BusinessException;
+import com.example.superapp.common.exception.DuplicateResourceException;
+import com.example.superapp.common.exception.ResourceNotFoundException;
+import com.example.superapp.modules.feed.service.FeedService;
+import com.example.superapp.modules.users.model.entity.Follow;
+import com.example.superapp.modules.users.model.entity.User;
+import com.example.superapp.modules.users.repository.FollowRepository;
+import com.example.superapp.modules.users.repository.UserRepository;
+import com.example.superapp.modules.users.service.FollowCountReconciler;
+import com.example.superapp.modules.users.service.FollowService;
+import com.example.superapp.security.PrincipalCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FollowServiceImpl implements FollowService {
+
+    private final FollowRepository followRepository;
+    private final UserRepository userRepository;
+    private final MongoTemplate mongoTemplate;
+    private final PrincipalCache principalCache;
+    private final FeedService feedService;
+    private final FollowCountReconciler followCountReconciler;
+
+    @Override
+    public void follow(String followerId, String followeeId) {
+        if (followerId.equals(followeeId)) {
+            throw new BusinessException("You cannot follow yourself");
+        }
+        if (!userRepository.existsById(followeeId)) {
+            throw new ResourceNotFoundException("User", "id", followeeId);
+        }
+
+        try {
+            followRepository.insert(Follow.builder()
+                    .followerId(followerId)
+                    .followeeId(followeeId)
+                    .build());
+        } catch (DuplicateKeyException e) {
+            throw new DuplicateResourceException("You are already following this user");
+        }
+        updateCounts(followerId, followeeId, 1);
+        try {
+            feedService.onFollow(followerId, followeeId);
+        } catch (RuntimeException e) {
+            // The follow stands; the followee's next posts still reach the timeline
+            log.warn("Timeline backfill failed for {} following {}", followerId, followeeId, e);
+        }
+        log.info("User {} followed {}", followerId, followeeId);
+    }
+
+    @Override
+    public void unfollow(String followerId, String followeeId) {
+        if (followRepository.deleteByFollowerIdAndFolloweeId(followerId, followeeId) == 0) {
+            throw new ResourceNotFoundException("You are not following this user");
+        }
+        updateCounts(followerId, followeeId, -1);
+        try {
+            feedService.onUnfollow(followerId, followeeId);
+        } catch (RuntimeException e) {
+            // Left-over entries only drop out of the timeline as newer posts push them past its cap
+            log.warn("Timeline cleanup failed for {} unfollowing {}", followerId, followeeId, e);
+        }
+        log.info("User {} unfollowed {}", followerId, followeeId);
+    }
+
+    /**
+     * Applies the change to both counters. The follow itself is already stored, so a failure here
+     * does not fail the request; both users are recounted from the follows collection instead.
+     */
+    private void updateCounts(String followerId, String followeeId, int delta) {
+        try {
+            mongoTemplate.updateFirst(Query.query(Criteria.where("id").is(followerId)),
+                    new Update().inc("followingCount", delta), User.class);
+            mongoTemplate.updateFirst(Query.query(Criteria.where("id").is(followeeId)),
+                    new Update().inc("followersCount", delta), User.class);
+        } catch (RuntimeException e) {
+            log.warn("Follow counts of {} and {} left for reconciliation", followerId, followeeId, e);
+            followCountReconciler.schedule(followerId, followeeId);
+        } finally {
+            // Direct updates bypass the save events that normally evict cached principals
+            principalCache.evictById(followerId);
+            principalCache.evictById(followeeId);
+        }
+    }
+}
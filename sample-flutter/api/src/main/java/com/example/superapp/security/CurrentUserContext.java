@@ -0,0 +1,64 @@
+package com.example.superapp.security;
+
+import com.example.superapp.modules.users.mapper.UserMapper;
+import com.example.superapp.modules.users.model.dto.UserResponse;
+import com.example.superapp.modules.users.model.entity.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+/**
+ * The authenticated user of the current request, injectable into any service. The account is
+ * loaded at most once per request, and only when more than the id is needed; its profile is
+ * mapped once and shared. Servlet stack only, as WebFlux has no request scope.
+ */
+@Component
+@RequestScope
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class CurrentUserContext {
+
+    private final UserDetailsService userDetailsService;
+    private final UserMapper userMapper;
+
+    private User user;
+    private UserResponse profile;
+
+    /**
+     * Id of the authenticated user, taken from the principal without any lookup.
+     */
+    public String userId() {
+        return principal().getId();
+    }
+
+    /**
+     * The full account. In stateless principal mode the principal only carries identity and
+     * authorities, so the account is loaded through the {@link PrincipalCache}.
+     */
+    public User user() {
+        if (user == null) {
+            user = (User) userDetailsService.loadUserByUsername(principal().getEmail());
+        }
+        return user;
+    }
+
+    public UserResponse profile() {
+        if (profile == null) {
+            profile = userMapper.toResponse(user());
+        }
+        return profile;
+    }
+
+    private User principal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof User principal)) {
+            throw new AuthenticationCredentialsNotFoundException("No authenticated user");
+        }
+        return principal;
+    }
+}
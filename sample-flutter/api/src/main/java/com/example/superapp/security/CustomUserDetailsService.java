@@ -1,21 +1,46 @@
 package com.example.superapp.security;
 
+import com.example.superapp.modules.users.model.entity.User;
 import com.example.superapp.modules.users.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
+    private final MongoTemplate mongoTemplate;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        return userRepository.findByEmail(username)
+        return principalCache.get(username, userRepository::findByEmail)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + username));
     }
+
+    /**
+     * Stores a password rehashed at the current cost factor. Only the hash is written, since the
+     * principal may be a cached copy.
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        User account = (User) user;
+        mongoTemplate.updateFirst(Query.query(Criteria.where("id").is(account.getId())),
+                new Update().set("password", newPassword), User.class);
+        principalCache.evict(account);
+        account.setPassword(newPassword);
+        log.info("Password rehashed for user: {}", account.getId());
+        return account;
+    }
 }
@@ -0,0 +1,78 @@
+package com.example.superapp.security;
+
+import com.example.superapp.modules.users.model.entity.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Size- and TTL-bounded cache of authenticated {@link User} principals keyed by email.
+ * Entries are evicted by {@link PrincipalCacheEvictionListener} whenever a user is saved or deleted.
+ * <p>
+ * Every read returns its own copy, so a caller that changes its principal cannot change what
+ * other requests see.
+ */
+@Component
+public class PrincipalCache {
+
+    private final Cache<String, User> cache;
+
+    // Email each cached user is stored under, so that evicting by id is a single lookup
+    private final Map<String, String> emailsById = new ConcurrentHashMap<>();
+
+    public PrincipalCache(
+            MeterRegistry meterRegistry,
+            @Value("${security.principal-cache.max-size:10000}") long maxSize,
+            @Value("${security.principal-cache.ttl:5m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .<String, User>evictionListener((email, user, cause) -> {
+                    if (user != null) {
+                        emailsById.remove(user.getId(), email);
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "principals");
+    }
+
+    public Optional<User> get(String email, Function<String, Optional<User>> loader) {
+        User user = cache.get(email, key -> loader.apply(key).orElse(null));
+        if (user == null) {
+            return Optional.empty();
+        }
+        // After an email change the entry under the old email is dropped here
+        String previous = emailsById.put(user.getId(), email);
+        if (previous != null && !previous.equals(email)) {
+            cache.invalidate(previous);
+        }
+        return Optional.of(user.toBuilder().build());
+    }
+
+    public void evict(User user) {
+        if (user.getEmail() != null) {
+            cache.invalidate(user.getEmail());
+        }
+        if (user.getId() != null) {
+            evictById(user.getId());
+        }
+    }
+
+    public void evictById(String userId) {
+        // Also covers email changes, where the entry is still stored under the old key
+        String email = emailsById.remove(userId);
+        if (email != null) {
+            cache.invalidate(email);
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package com.example.superapp.security.jwt;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -20,11 +22,14 @@ import java.io.IOException;
 
 @Slf4j
 @Component
+@Profile("!reactive")
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final UserDetailsService userDetailsService;
+    private final JwtPrincipalResolver jwtPrincipalResolver;
+    private final RefreshTokenStore refreshTokenStore;
 
     @Override
     protected void doFilterInternal(
@@ -34,13 +39,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     ) throws ServletException, IOException {
         try {
             String jwt = getJwtFromRequest(request);
+            Claims claims = StringUtils.hasText(jwt) ? jwtTokenProvider.resolveClaims(jwt).orElse(null) : null;
 
-            if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
-                String username = jwtTokenProvider.extractUsername(jwt);
+            if (claims != null && !refreshTokenStore.isRevoked(claims)) {
+                UserDetails userDetails = loadPrincipal(claims);
 
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-
-                if (jwtTokenProvider.isTokenValid(jwt, userDetails)) {
+                if (userDetails != null && jwtTokenProvider.isTokenValid(claims, userDetails)) {
                     UsernamePasswordAuthenticationToken authentication =
                             new UsernamePasswordAuthenticationToken(
                                     userDetails,
@@ -61,6 +65,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private UserDetails loadPrincipal(Claims claims) {
+        if (jwtPrincipalResolver.canResolveFromClaims(claims)) {
+            return jwtPrincipalResolver.fromClaims(claims).orElse(null);
+        }
+        return userDetailsService.loadUserByUsername(claims.getSubject());
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
@@ -0,0 +1,55 @@
+package com.example.superapp.security.jwt;
+
+import com.example.superapp.modules.users.model.entity.User;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Builds principals from token claims in stateless principal mode; shared by the servlet and reactive JWT filters.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwtPrincipalResolver {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final TokenVersionRegistry tokenVersionRegistry;
+
+    @Value("${jwt.stateless-principal:false}")
+    private boolean statelessPrincipal;
+
+    /**
+     * Whether the principal can be built from the claims alone. Tokens issued before the
+     * id/role claims existed still go through the user lookup.
+     */
+    public boolean canResolveFromClaims(Claims claims) {
+        return statelessPrincipal
+                && claims.get(JwtTokenProvider.CLAIM_USER_ID) != null
+                && claims.get(JwtTokenProvider.CLAIM_ROLE) != null;
+    }
+
+    /**
+     * Lightweight principal carrying only identity and authorities, or empty if the token was revoked.
+     */
+    public Optional<UserDetails> fromClaims(Claims claims) {
+        String userId = claims.get(JwtTokenProvider.CLAIM_USER_ID, String.class);
+        int tokenVersion = jwtTokenProvider.extractTokenVersion(claims);
+        if (!tokenVersionRegistry.isCurrent(userId, tokenVersion)) {
+            log.debug("Rejected revoked token for user: {}", userId);
+            return Optional.empty();
+        }
+
+        return Optional.of(User.builder()
+                .id(userId)
+                .email(claims.getSubject())
+                .role(User.Role.valueOf(claims.get(JwtTokenProvider.CLAIM_ROLE, String.class)))
+                .tokenVersion(tokenVersion)
+                .build());
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.superapp.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Optional;
+
+/**
+ * Reactive counterpart of {@link JwtAuthenticationFilter}. The blocking user lookup, when stateless
+ * principal mode is off, and the confirmation of a possible revocation run on the bounded elastic
+ * scheduler instead of the event loop.
+ * <p>
+ * Not a component on purpose: WebFlux would otherwise register it a second time outside the security chain.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class JwtReactiveAuthenticationFilter implements WebFilter {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final UserDetailsService userDetailsService;
+    private final JwtPrincipalResolver jwtPrincipalResolver;
+    private final RefreshTokenStore refreshTokenStore;
+
+    @Override
+    @NonNull
+    public Mono<Void> filter(@NonNull ServerWebExchange exchange, @NonNull WebFilterChain chain) {
+        String jwt = getJwtFromRequest(exchange);
+        Claims claims = StringUtils.hasText(jwt) ? jwtTokenProvider.resolveClaims(jwt).orElse(null) : null;
+        if (claims == null) {
+            return chain.filter(exchange);
+        }
+
+        return isRevoked(claims)
+                .flatMap(revoked -> revoked ? Mono.<UserDetails>empty() : loadPrincipal(claims))
+                .filter(userDetails -> jwtTokenProvider.isTokenValid(claims, userDetails))
+                .map(userDetails -> Optional.<Authentication>of(new UsernamePasswordAuthenticationToken(
+                        userDetails, null, userDetails.getAuthorities())))
+                .onErrorResume(ex -> {
+                    log.error("Could not set user authentication in security context", ex);
+                    return Mono.empty();
+                })
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(authentication -> authentication
+                        .map(auth -> chain.filter(exchange)
+                                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(auth)))
+                        .orElseGet(() -> chain.filter(exchange)));
+    }
+
+    private Mono<Boolean> isRevoked(Claims claims) {
+        if (!refreshTokenStore.mightBeRevoked(claims)) {
+            return Mono.just(false);
+        }
+        return Mono.fromCallable(() -> refreshTokenStore.isRevoked(claims))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Mono<UserDetails> loadPrincipal(Claims claims) {
+        if (jwtPrincipalResolver.canResolveFromClaims(claims)) {
+            return Mono.justOrEmpty(jwtPrincipalResolver.fromClaims(claims));
+        }
+        return Mono.fromCallable(() -> userDetailsService.loadUserByUsername(claims.getSubject()))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private String getJwtFromRequest(ServerWebExchange exchange) {
+        String bearerToken = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
+            return bearerToken.substring(7);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.superapp.security.jwt;
+
+import com.example.superapp.common.exception.BusinessException;
+import com.example.superapp.modules.auth.model.entity.RefreshTokenFamily;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Refresh token families with rotation and reuse detection. Each refresh swaps the family's
+ * current token id with a compare-and-set, so a token can be redeemed once; redeeming it again
+ * means it leaked, and the whole family is revoked.
+ * <p>
+ * Access tokens carry their family id. Revoked families are kept in a Bloom filter, so checking
+ * a token that was never revoked costs no I/O; only filter hits are confirmed against Mongo. The
+ * filter is rebuilt on a schedule, which drops expired families and picks up revocations made by
+ * other instances. Until then those instances keep accepting the family's access tokens.
+ */
+@Slf4j
+@Component
+public class RefreshTokenStore {
+
+    private final MongoTemplate mongoTemplate;
+    private final long refreshExpiration;
+    private final long expectedRevocations;
+    private final double falsePositiveRate;
+    private final Counter reuseDetected;
+
+    private volatile BloomFilter revokedFamilies;
+
+    // Set while a rebuild runs so that revocations made meanwhile reach the new filter too
+    private volatile BloomFilter rebuilding;
+
+    public RefreshTokenStore(
+            MongoTemplate mongoTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.refresh-expiration}") long refreshExpiration,
+            @Value("${jwt.revocation-filter.expected-revocations:100000}") long expectedRevocations,
+            @Value("${jwt.revocation-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.mongoTemplate = mongoTemplate;
+        this.refreshExpiration = refreshExpiration;
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        this.reuseDetected = meterRegistry.counter("refresh_token.reuse_detected");
+        this.revokedFamilies = new BloomFilter(expectedRevocations, falsePositiveRate);
+    }
+
+    /**
+     * Starts a family for a new sign-in and returns its id.
+     */
+    public String start(String userId, String tokenId) {
+        RefreshTokenFamily family = RefreshTokenFamily.builder()
+                .id(UUID.randomUUID().toString())
+                .userId(userId)
+                .tokenHash(JwtTokenProvider.digest(tokenId))
+                .expiresAt(nextExpiry())
+                .build();
+        return mongoTemplate.insert(family).getId();
+    }
+
+    /**
+     * Replaces the presented token id with the next one. Fails if the family is revoked or
+     * expired, or if the presented token was already rotated, in which case the family is revoked.
+     */
+    public void rotate(String familyId, String presentedTokenId, String nextTokenId) {
+        Query current = new Query(Criteria.where("id").is(familyId)
+                .and("tokenHash").is(JwtTokenProvider.digest(presentedTokenId))
+                .and("revoked").is(false));
+        Update update = new Update()
+                .set("tokenHash", JwtTokenProvider.digest(nextTokenId))
+                .set("expiresAt", nextExpiry());
+        if (mongoTemplate.updateFirst(current, update, RefreshTokenFamily.class).getModifiedCount() > 0) {
+            return;
+        }
+
+        if (revoke(familyId)) {
+            reuseDetected.increment();
+            log.warn("Refresh token reused, revoked token family: {}", familyId);
+        }
+        throw new BusinessException("Invalid refresh token");
+    }
+
+    /**
+     * Revokes the family. Returns whether it was still active.
+     */
+    public boolean revoke(String familyId) {
+        Query active = new Query(Criteria.where("id").is(familyId).and("revoked").is(false));
+        boolean revoked = mongoTemplate.updateFirst(active, Update.update("revoked", true), RefreshTokenFamily.class)
+                .getModifiedCount() > 0;
+        if (revoked) {
+            revokedFamilies.add(familyId);
+            BloomFilter next = rebuilding;
+            if (next != null) {
+                next.add(familyId);
+            }
+        }
+        return revoked;
+    }
+
+    /**
+     * Whether the token's family may have been revoked, answered from memory. Tokens without a
+     * family, issued before families existed, are never revoked this way.
+     */
+    public boolean mightBeRevoked(Claims claims) {
+        String familyId = claims.get(JwtTokenProvider.CLAIM_FAMILY_ID, String.class);
+        return familyId != null && revokedFamilies.mightContain(familyId);
+    }
+
+    /**
+     * Whether the token's family was revoked. Only queries Mongo when {@link #mightBeRevoked} does not rule it out.
+     */
+    public boolean isRevoked(Claims claims) {
+        if (!mightBeRevoked(claims)) {
+            return false;
+        }
+        String familyId = claims.get(JwtTokenProvider.CLAIM_FAMILY_ID, String.class);
+        return mongoTemplate.exists(
+                new Query(Criteria.where("id").is(familyId).and("revoked").is(true)), RefreshTokenFamily.class);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation-filter.rebuild-interval:PT10M}")
+    public void rebuildRevocationFilter() {
+        BloomFilter next = new BloomFilter(expectedRevocations, falsePositiveRate);
+        rebuilding = next;
+        try {
+            Query query = new Query(Criteria.where("revoked").is(true).and("expiresAt").gt(LocalDateTime.now()));
+            query.fields().include("id");
+            try (Stream<RefreshTokenFamily> families = mongoTemplate.stream(query, RefreshTokenFamily.class)) {
+                families.forEach(family -> next.add(family.getId()));
+            }
+            revokedFamilies = next;
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    private LocalDateTime nextExpiry() {
+        return LocalDateTime.now().plus(Duration.ofMillis(refreshExpiration));
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.superapp.security.jwt;
+
+import com.example.superapp.modules.users.model.entity.User;
+import com.example.superapp.security.PrincipalCache;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory view of {@link User#getTokenVersion()} used to revoke tokens without a database lookup.
+ * Only users whose version was ever bumped are tracked; everyone else is implicitly at version 0.
+ * <p>
+ * Saves on this instance are seen right away. Revocations made by other instances are picked up
+ * by a periodic reload, which also evicts the cached principals of the affected users, so in both
+ * principal modes they take effect here within {@code jwt.token-version-refresh}. Deleted users are
+ * only marked on the instance that deleted them; elsewhere their tokens are rejected once the
+ * principal cache entry expires, or in stateless mode once the tokens themselves expire.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenVersionRegistry extends AbstractMongoEventListener<User> {
+
+    private final MongoTemplate mongoTemplate;
+    private final PrincipalCache principalCache;
+
+    @Value("${jwt.stateless-principal:false}")
+    private boolean statelessPrincipal;
+
+    private final Map<String, Integer> versions = new ConcurrentHashMap<>();
+
+    // Only stateless mode trusts the map for revocation; loaded principals are read fresh at startup
+    @PostConstruct
+    void load() {
+        if (!statelessPrincipal) {
+            return;
+        }
+        reload();
+        log.info("Loaded token versions for {} users", versions.size());
+    }
+
+    // Versions only grow, so merging keeps newer local bumps and the markers of deleted users
+    @Scheduled(fixedDelayString = "${jwt.token-version-refresh:PT30S}",
+            initialDelayString = "${jwt.token-version-refresh:PT30S}")
+    public void reload() {
+        Query query = new Query(Criteria.where("tokenVersion").gt(0));
+        query.fields().include("tokenVersion");
+        for (User user : mongoTemplate.find(query, User.class)) {
+            if (track(user)) {
+                // Bumped elsewhere; a cached principal still carries the old version
+                principalCache.evictById(user.getId());
+            }
+        }
+    }
+
+    public boolean isCurrent(String userId, int tokenVersion) {
+        return tokenVersion >= versions.getOrDefault(userId, 0);
+    }
+
+    public void revokeAll(String userId) {
+        User user = mongoTemplate.findAndModify(
+                new Query(Criteria.where("id").is(userId)),
+                new Update().inc("tokenVersion", 1),
+                FindAndModifyOptions.options().returnNew(true),
+                User.class);
+        if (user != null) {
+            track(user);
+            principalCache.evict(user);
+            log.info("Revoked all tokens for user: {}", userId);
+        }
+    }
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<User> event) {
+        track(event.getSource());
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<User> event) {
+        Object id = event.getSource().get("_id");
+        if (id != null) {
+            versions.put(id.toString(), Integer.MAX_VALUE);
+        }
+    }
+
+    /**
+     * Records the user's version and returns whether it is newer than the one tracked so far.
+     */
+    private boolean track(User user) {
+        if (user.getId() == null || user.getTokenVersion() <= 0) {
+            return false;
+        }
+        Integer previous = versions.get(user.getId());
+        versions.merge(user.getId(), user.getTokenVersion(), Math::max);
+        return previous == null || previous < user.getTokenVersion();
+    }
+}
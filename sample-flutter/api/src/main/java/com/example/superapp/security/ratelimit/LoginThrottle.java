@@ -0,0 +1,46 @@
+package com.example.superapp.security.ratelimit;
+
+import com.example.superapp.common.exception.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Caps password checks per account and client address, and more loosely per account alone. A
+ * single address cannot lock anyone else out of an account, while guessing one account's password
+ * from many addresses is still throttled.
+ */
+@Component
+public class LoginThrottle {
+
+    private final RateLimiter rateLimiter;
+    private final boolean enabled;
+    private final RateLimiter.Limit limit;
+    private final RateLimiter.Limit accountLimit;
+
+    public LoginThrottle(
+            RateLimiter rateLimiter,
+            @Value("${rate-limit.enabled:true}") boolean enabled,
+            @Value("${rate-limit.login.capacity:10}") int capacity,
+            @Value("${rate-limit.login.period:5m}") Duration period,
+            @Value("${rate-limit.login.account-capacity:100}") int accountCapacity) {
+        this.rateLimiter = rateLimiter;
+        this.enabled = enabled;
+        this.limit = RateLimiter.Limit.of(capacity, period);
+        this.accountLimit = RateLimiter.Limit.of(accountCapacity, period);
+    }
+
+    public void check(String email, String clientIp) {
+        if (!enabled) {
+            return;
+        }
+        Duration wait = rateLimiter.tryAcquire("login:" + email + ":" + clientIp, limit);
+        if (wait.isZero()) {
+            wait = rateLimiter.tryAcquire("login:" + email, accountLimit);
+        }
+        if (!wait.isZero()) {
+            throw new TooManyRequestsException("Too many login attempts, retry later", wait);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.superapp.security.ratelimit;
+
+import com.example.superapp.common.dto.ApiResponse;
+import com.example.superapp.security.jwt.JwtTokenProvider;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Rejects requests over their budget with 429 before any password is checked. Every request
+ * draws from its client IP's bucket, requests carrying a valid bearer token also from their
+ * user's bucket, and /auth routes from a much smaller per IP and route bucket.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String AUTH_PATH_PREFIX = "/auth/";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final RateLimiter rateLimiter;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final RateLimiter.Limit ipLimit;
+    private final RateLimiter.Limit userLimit;
+    private final RateLimiter.Limit authLimit;
+    private final Counter ipRejections;
+    private final Counter userRejections;
+    private final Counter authRejections;
+
+    public RateLimitFilter(
+            RateLimiter rateLimiter,
+            JwtTokenProvider jwtTokenProvider,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${rate-limit.enabled:true}") boolean enabled,
+            @Value("${rate-limit.ip.capacity:600}") int ipCapacity,
+            @Value("${rate-limit.ip.period:1m}") Duration ipPeriod,
+            @Value("${rate-limit.user.capacity:300}") int userCapacity,
+            @Value("${rate-limit.user.period:1m}") Duration userPeriod,
+            @Value("${rate-limit.auth.capacity:20}") int authCapacity,
+            @Value("${rate-limit.auth.period:1m}") Duration authPeriod) {
+        this.rateLimiter = rateLimiter;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.ipLimit = RateLimiter.Limit.of(ipCapacity, ipPeriod);
+        this.userLimit = RateLimiter.Limit.of(userCapacity, userPeriod);
+        this.authLimit = RateLimiter.Limit.of(authCapacity, authPeriod);
+        this.ipRejections = rejections(meterRegistry, "ip");
+        this.userRejections = rejections(meterRegistry, "user");
+        this.authRejections = rejections(meterRegistry, "auth");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        // Behind a proxy this is the client address only with server.forward-headers-strategy set
+        String ip = request.getRemoteAddr();
+
+        Duration wait = rateLimiter.tryAcquire("ip:" + ip, ipLimit);
+        if (!wait.isZero()) {
+            reject(response, ipRejections, wait);
+            return;
+        }
+
+        String path = request.getServletPath();
+        if (path.startsWith(AUTH_PATH_PREFIX)) {
+            wait = rateLimiter.tryAcquire("auth:" + path + ":" + ip, authLimit);
+            if (!wait.isZero()) {
+                reject(response, authRejections, wait);
+                return;
+            }
+        }
+
+        // Only verified tokens get a user bucket, so forged ones cannot create keys and only draw
+        // from their sender's IP bucket. The claims are cached for the JWT filter that follows.
+        String subject = verifiedSubject(request);
+        if (subject != null) {
+            wait = rateLimiter.tryAcquire("user:" + subject, userLimit);
+            if (!wait.isZero()) {
+                reject(response, userRejections, wait);
+                return;
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private String verifiedSubject(HttpServletRequest request) {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (!StringUtils.hasText(authorization) || !authorization.startsWith(BEARER_PREFIX)) {
+            return null;
+        }
+        return jwtTokenProvider.resolveClaims(authorization.substring(BEARER_PREFIX.length()))
+                .map(Claims::getSubject)
+                .orElse(null);
+    }
+
+    private void reject(HttpServletResponse response, Counter rejections, Duration wait) throws IOException {
+        rejections.increment();
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds(wait)));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error("Too many requests, retry later"));
+    }
+
+    private static long retryAfterSeconds(Duration wait) {
+        return Math.max(1, (wait.toMillis() + 999) / 1000);
+    }
+
+    private static Counter rejections(MeterRegistry meterRegistry, String scope) {
+        return Counter.builder("rate_limit.rejected")
+                .description("Requests rejected by the rate limiter")
+                .tag("scope", scope)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.superapp.security.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * In-memory token buckets keyed by caller. The number of buckets is bounded; a bucket that is
+ * evicted or idles out starts again full, which only ever errs on the side of admitting.
+ */
+@Component
+public class RateLimiter {
+
+    private final Cache<String, TokenBucket> buckets;
+
+    public RateLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${rate-limit.max-keys:100000}") long maxKeys,
+            @Value("${rate-limit.idle-timeout:10m}") Duration idleTimeout) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(idleTimeout)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, buckets, "rate_limit_buckets");
+    }
+
+    /**
+     * Takes a token from the key's bucket and returns 0, or returns how long the caller has to wait.
+     */
+    public Duration tryAcquire(String key, Limit limit) {
+        long now = System.nanoTime();
+        long wait = buckets.get(key, k -> new TokenBucket(now))
+                .tryAcquire(now, limit.interval(), limit.tolerance());
+        return wait == 0 ? Duration.ZERO : Duration.ofNanos(wait);
+    }
+
+    /**
+     * Admits bursts of up to capacity requests, refilled evenly over the period.
+     */
+    public record Limit(long interval, long tolerance) {
+
+        public static Limit of(int capacity, Duration period) {
+            long interval = period.toNanos() / capacity;
+            return new Limit(interval, interval * (capacity - 1));
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.superapp.security.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket stored as a single theoretical arrival time (the generic cell rate algorithm).
+ * Taking a token is one compare-and-set, and the bucket needs no refill bookkeeping: a bucket of
+ * capacity n refilled at one token per interval admits a request while that time is no more than
+ * (n - 1) intervals ahead of now.
+ */
+final class TokenBucket {
+
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(long now) {
+        this.theoreticalArrival = new AtomicLong(now);
+    }
+
+    /**
+     * Takes a token and returns 0, or returns the nanoseconds until one is available.
+     */
+    long tryAcquire(long now, long interval, long tolerance) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long start = Math.max(current, now);
+            long wait = start - tolerance - now;
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(current, start + interval)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.superapp.common.pagination;
+
+import com.example.superapp.common.exception.BusinessException;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    @Test
+    void decodesWhatItEncodes() {
+        KeysetCursor cursor = KeysetCursor.of(LocalDateTime.of(2024, 2, 29, 23, 59, 59, 123_456_789),
+                new ObjectId().toHexString());
+
+        assertThat(KeysetCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void encodesAsUrlSafeBase64WithoutPadding() {
+        KeysetCursor cursor = KeysetCursor.of(LocalDateTime.of(2024, 1, 1, 0, 0), new ObjectId().toHexString());
+
+        assertThat(cursor.encode()).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void rejectsCursorsThatAreNotBase64() {
+        assertThatThrownBy(() -> KeysetCursor.decode("not a cursor!"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Invalid cursor");
+    }
+
+    @Test
+    void rejectsCursorsWithoutAValidId() {
+        assertThatThrownBy(() -> KeysetCursor.decode(encode("2024-01-01T00:00")))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(encode("2024-01-01T00:00|xyz")))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    void rejectsCursorsWithoutAValidTimestamp() {
+        assertThatThrownBy(() -> KeysetCursor.decode(encode("yesterday|" + new ObjectId().toHexString())))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
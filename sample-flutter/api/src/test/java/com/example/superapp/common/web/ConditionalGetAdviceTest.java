@@ -0,0 +1,136 @@
+package com.example.superapp.common.web;
+
+import com.example.superapp.common.dto.ApiResponse;
+import com.example.superapp.common.dto.MappedList;
+import com.example.superapp.common.dto.PageResponse;
+import com.example.superapp.common.dto.VersionStamped;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConditionalGetAdviceTest {
+
+    private final ConditionalGetAdvice advice = new ConditionalGetAdvice();
+
+    @Test
+    void tagsAStampedReadAndLetsOnlyTheClientStoreIt() {
+        ApiResponse<Item> body = ApiResponse.success(new Item("a:1"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(write(body, get(), response)).isSameAs(body);
+        assertThat(response.getHeader("ETag")).matches("\"[0-9a-f]{32}\"");
+        assertThat(response.getHeader("Cache-Control")).isEqualTo("private, no-cache");
+    }
+
+    @Test
+    void answersAMatchingIfNoneMatchWith304AndNoBody() {
+        ApiResponse<Item> body = ApiResponse.success(new Item("a:1"));
+        String etag = etagOf(body);
+
+        for (String ifNoneMatch : List.of(etag, "W/" + etag, "\"other\", " + etag, "*")) {
+            MockHttpServletRequest request = get();
+            request.addHeader("If-None-Match", ifNoneMatch);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            assertThat(write(body, request, response)).as(ifNoneMatch).isNull();
+            assertThat(response.getStatus()).as(ifNoneMatch).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        }
+    }
+
+    @Test
+    void sendsTheBodyWhenTheTagChanged() {
+        String stale = etagOf(ApiResponse.success(new Item("a:1")));
+        ApiResponse<Item> body = ApiResponse.success(new Item("a:2"));
+        MockHttpServletRequest request = get();
+        request.addHeader("If-None-Match", stale);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(write(body, request, response)).isSameAs(body);
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getHeader("ETag")).isNotEqualTo(stale);
+    }
+
+    @Test
+    void theTagCoversTheMessageAndPagingButNotTheEnvelopeTime() {
+        List<Item> items = List.of(new Item("a:1"));
+
+        assertThat(etagOf(ApiResponse.success(items))).isEqualTo(etagOf(ApiResponse.success(items)));
+        assertThat(etagOf(ApiResponse.success("Tasks", items))).isNotEqualTo(etagOf(ApiResponse.success(items)));
+        assertThat(etagOf(ApiResponse.success(PageResponse.fromCursor(items, 20, true, "next", null))))
+                .isNotEqualTo(etagOf(ApiResponse.success(PageResponse.fromCursor(items, 20, true, null, null))));
+    }
+
+    @Test
+    void leavesWritesErrorsAndUnstampedDataUntagged() {
+        MockHttpServletResponse post = new MockHttpServletResponse();
+        write(ApiResponse.success(new Item("a:1")), new MockHttpServletRequest("POST", "/tasks"), post);
+
+        MockHttpServletResponse created = new MockHttpServletResponse();
+        created.setStatus(HttpStatus.CREATED.value());
+        write(ApiResponse.success(new Item("a:1")), get(), created);
+
+        MockHttpServletResponse mixed = new MockHttpServletResponse();
+        write(ApiResponse.success(List.of(new Item("a:1"), "plain")), get(), mixed);
+
+        MockHttpServletResponse error = new MockHttpServletResponse();
+        write(ApiResponse.error("Task not found"), get(), error);
+
+        assertThat(List.of(post, created, mixed, error))
+                .allSatisfy(response -> assertThat(response.getHeader("ETag")).isNull());
+    }
+
+    @Test
+    void stampsAMappedListFromItsSourceWithoutMappingIt() {
+        AtomicInteger mapped = new AtomicInteger();
+        MappedList<String, Item> items = MappedList.of(List.of("a:1", "b:2"),
+                source -> {
+                    mapped.incrementAndGet();
+                    return new Item(source);
+                },
+                source -> source);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        write(ApiResponse.success(items), get(), response);
+
+        assertThat(response.getHeader("ETag")).isEqualTo(etagOf(ApiResponse.success(List.of(
+                new Item("a:1"), new Item("b:2")))));
+        assertThat(mapped).hasValue(0);
+    }
+
+    // Headers set on the ServerHttpResponse reach the servlet response when it is flushed
+    private Object write(Object body, MockHttpServletRequest request, MockHttpServletResponse response) {
+        ServletServerHttpResponse serverResponse = new ServletServerHttpResponse(response);
+        Object written = advice.beforeBodyWrite(body, null, MediaType.APPLICATION_JSON,
+                MappingJackson2HttpMessageConverter.class, new ServletServerHttpRequest(request), serverResponse);
+        serverResponse.close();
+        return written;
+    }
+
+    private String etagOf(Object body) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        write(body, get(), response);
+        return response.getHeader("ETag");
+    }
+
+    private static MockHttpServletRequest get() {
+        return new MockHttpServletRequest("GET", "/tasks");
+    }
+
+    private record Item(String stamp) implements VersionStamped {
+
+        @Override
+        public String versionStamp() {
+            return stamp;
+        }
+    }
+}
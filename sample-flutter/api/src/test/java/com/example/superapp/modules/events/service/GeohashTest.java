@@ -0,0 +1,65 @@
+package com.example.superapp.modules.events.service;
+
+import com.example.superapp.common.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class GeohashTest {
+
+    @Test
+    void encodesAKnownPosition() {
+        assertThat(Geohash.encode(57.64911, 10.40744, 8)).isEqualTo("u4pruydq");
+        assertThat(Geohash.encode(57.64911, 10.40744, 1)).isEqualTo("u");
+    }
+
+    @Test
+    void boundsOfTheFirstCharacterSplitTheGlobeIntoEightByFour() {
+        assertThat(Geohash.bounds("0")).containsExactly(-90, -45, -180, -135);
+        assertThat(Geohash.bounds("z")).containsExactly(45, 90, 135, 180);
+    }
+
+    @Test
+    void boundsContainTheEncodedPosition() {
+        double lat = -33.8688;
+        double lng = 151.2093;
+        for (int precision = 1; precision <= Geohash.MAX_PRECISION; precision++) {
+            double[] bounds = Geohash.bounds(Geohash.encode(lat, lng, precision));
+
+            assertThat(lat).isBetween(bounds[0], bounds[1]);
+            assertThat(lng).isBetween(bounds[2], bounds[3]);
+        }
+    }
+
+    @Test
+    void longerGeohashesNestInsideTheirPrefix() {
+        double[] outer = Geohash.bounds("u4pr");
+        double[] inner = Geohash.bounds("u4pruydq");
+
+        assertThat(inner[0]).isGreaterThanOrEqualTo(outer[0]);
+        assertThat(inner[1]).isLessThanOrEqualTo(outer[1]);
+        assertThat(inner[2]).isGreaterThanOrEqualTo(outer[2]);
+        assertThat(inner[3]).isLessThanOrEqualTo(outer[3]);
+    }
+
+    @Test
+    void tileEdgesArePowerOfTwoFractionsOfTheGlobe() {
+        // Even lengths give tiles twice as wide as they are tall, odd lengths give square ones
+        double[] even = Geohash.bounds("u4");
+        double[] odd = Geohash.bounds("u4p");
+
+        assertThat(even[3] - even[2]).isCloseTo(11.25, within(1e-12));
+        assertThat(even[1] - even[0]).isCloseTo(5.625, within(1e-12));
+        assertThat(odd[3] - odd[2]).isCloseTo(1.40625, within(1e-12));
+        assertThat(odd[1] - odd[0]).isCloseTo(1.40625, within(1e-12));
+    }
+
+    @Test
+    void rejectsInvalidGeohashes() {
+        assertThatThrownBy(() -> Geohash.bounds("")).isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> Geohash.bounds("u4pa")).isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> Geohash.bounds("u4pruydqq")).isInstanceOf(BusinessException.class);
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.superapp.modules.feed.service.impl;
+
+import com.example.superapp.modules.feed.model.entity.Timeline;
+import com.example.superapp.modules.feed.service.HotTimelineCache;
+import com.example.superapp.modules.posts.model.entity.Post;
+import com.example.superapp.modules.posts.repository.PostRepository;
+import com.example.superapp.modules.posts.service.PostLikeService;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FeedServiceImplTest {
+
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final BulkOperations bulkOps = mock(BulkOperations.class);
+    private final HotTimelineCache hotTimelines = mock(HotTimelineCache.class);
+    private FeedServiceImpl feedService;
+
+    @BeforeEach
+    void setUp() {
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Timeline.class)).thenReturn(bulkOps);
+        feedService = new FeedServiceImpl(mongoTemplate, mock(PostRepository.class), hotTimelines,
+                mock(PostLikeService.class), new SimpleMeterRegistry(), 10_000, Duration.ofMinutes(1), 800, 50,
+                1, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        feedService.destroy();
+    }
+
+    @Test
+    void pushesOnlyIntoTimelinesThatDoNotHoldThePostsYet() {
+        Query query = FeedServiceImpl.withoutPosts("user-1", List.of("post-1", "post-2"));
+
+        assertThat(query.getQueryObject()).isEqualTo(new Document("userId", "user-1")
+                .append("entries.postId", new Document("$nin", List.of("post-1", "post-2"))));
+    }
+
+    @Test
+    void republishingAPostIgnoresTimelinesThatAlreadyHoldIt() {
+        when(bulkOps.execute()).thenThrow(bulkFailure(DUPLICATE_KEY, DUPLICATE_KEY));
+
+        feedService.publish(post("post-1", "author-1"));
+
+        verify(bulkOps).upsert(eq(FeedServiceImpl.withoutPosts("author-1", List.of("post-1"))), any(Update.class));
+        verify(hotTimelines).evictAll(List.of("author-1"));
+    }
+
+    @Test
+    void otherWriteErrorsAreNotSwallowed() {
+        when(bulkOps.execute()).thenThrow(bulkFailure(DUPLICATE_KEY, 2));
+
+        assertThatThrownBy(() -> feedService.publish(post("post-1", "author-1")))
+                .isInstanceOf(BulkOperationException.class);
+        verify(hotTimelines, never()).evictAll(any());
+    }
+
+    @Test
+    void followBackfillDropsPostsItAlreadyHoldsBeforePushingThem() {
+        when(mongoTemplate.find(any(Query.class), eq(Post.class)))
+                .thenReturn(List.of(post("post-2", "author-1"), post("post-1", "author-1")));
+        when(mongoTemplate.upsert(any(Query.class), any(Update.class), eq(Timeline.class)))
+                .thenThrow(new DuplicateKeyException("E11000"));
+
+        feedService.onFollow("user-1", "author-1");
+
+        InOrder order = inOrder(mongoTemplate, hotTimelines);
+        order.verify(mongoTemplate).updateFirst(any(Query.class),
+                eq(new Update().pull("entries", new Document("postId",
+                        new Document("$in", List.of("post-2", "post-1"))))),
+                eq(Timeline.class));
+        order.verify(mongoTemplate).upsert(eq(FeedServiceImpl.withoutPosts("user-1", List.of("post-2", "post-1"))),
+                any(Update.class), eq(Timeline.class));
+        order.verify(hotTimelines).evict("user-1");
+    }
+
+    private static Post post(String id, String authorId) {
+        return Post.builder()
+                .id(id)
+                .userId(authorId)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static BulkOperationException bulkFailure(int... codes) {
+        List<BulkWriteError> errors = new ArrayList<>();
+        for (int i = 0; i < codes.length; i++) {
+            errors.add(new BulkWriteError(codes[i], "write error", new BsonDocument(), i));
+        }
+        return new BulkOperationException("Bulk write failed", new MongoBulkWriteException(
+                BulkWriteResult.acknowledged(0, 0, 0, 0, List.of(), List.of()), errors, null, new ServerAddress(),
+                Set.of()));
+    }
+}
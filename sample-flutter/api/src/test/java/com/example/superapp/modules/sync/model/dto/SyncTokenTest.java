@@ -0,0 +1,63 @@
+package com.example.superapp.modules.sync.model.dto;
+
+import com.example.superapp.common.exception.BusinessException;
+import com.example.superapp.common.pagination.KeysetCursor;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SyncTokenTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 5, 1, 12, 30, 15, 500_000_000);
+
+    @Test
+    void decodesWhatItEncodes() {
+        SyncToken token = new SyncToken(NOW, cursor(NOW.minusHours(1)), cursor(NOW.minusMinutes(5)), cursor(NOW));
+
+        assertThat(SyncToken.decode(token.encode())).isEqualTo(token);
+    }
+
+    @Test
+    void keepsMissingPositionsMissing() {
+        // An initial sync that is still paging has no completed time and may not have reached every collection
+        SyncToken token = new SyncToken(null, cursor(NOW), null, null);
+
+        assertThat(SyncToken.decode(token.encode())).isEqualTo(token);
+    }
+
+    @Test
+    void rejectsTokensThatAreNotBase64() {
+        assertThatThrownBy(() -> SyncToken.decode("not a token!"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Invalid change token");
+    }
+
+    @Test
+    void rejectsTokensWithTheWrongNumberOfParts() {
+        assertThatThrownBy(() -> SyncToken.decode(encode(NOW + ";;")))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Invalid change token");
+    }
+
+    @Test
+    void rejectsTokensWithAnInvalidTimeOrCursor() {
+        assertThatThrownBy(() -> SyncToken.decode(encode("yesterday;;;")))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> SyncToken.decode(encode(NOW + ";garbage;;")))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    private static KeysetCursor cursor(LocalDateTime timestamp) {
+        return KeysetCursor.of(timestamp, new ObjectId().toHexString());
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
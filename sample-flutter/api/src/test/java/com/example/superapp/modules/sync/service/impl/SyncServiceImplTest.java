@@ -0,0 +1,142 @@
+package com.example.superapp.modules.sync.service.impl;
+
+import com.example.superapp.common.pagination.KeysetCursor;
+import com.example.superapp.modules.sync.model.dto.SyncResponse;
+import com.example.superapp.modules.sync.model.dto.SyncToken;
+import com.example.superapp.modules.sync.model.entity.Tombstone;
+import com.example.superapp.modules.tasks.mapper.TaskMapperImpl;
+import com.example.superapp.modules.tasks.model.entity.Task;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SyncServiceImplTest {
+
+    private static final String USER_ID = "user-1";
+    private static final Duration SETTLE_WINDOW = Duration.ofSeconds(2);
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final SyncServiceImpl syncService = new SyncServiceImpl(mongoTemplate, new TaskMapperImpl(), SETTLE_WINDOW);
+    private int tombstones;
+
+    @Test
+    void leavesChangesInsideTheSettleWindowForTheNextSync() {
+        LocalDateTime before = LocalDateTime.now().minus(SETTLE_WINDOW);
+        SyncResponse response = syncService.changesSince(USER_ID, null, 10);
+        LocalDateTime after = LocalDateTime.now().minus(SETTLE_WINDOW);
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(Task.class));
+        LocalDateTime upTo = (LocalDateTime) query.getValue().getQueryObject().get("updatedAt", Document.class)
+                .get("$lt");
+        assertThat(upTo).isBetween(before, after);
+
+        SyncToken next = SyncToken.decode(response.getChangeToken());
+        assertThat(next.syncedUpTo()).isEqualTo(upTo);
+        assertThat(response.isHasMore()).isFalse();
+    }
+
+    @Test
+    void anInitialSyncSendsNoDeletionsAndStartsTheirHistoryAtTheSyncTime() {
+        SyncResponse response = syncService.changesSince(USER_ID, null, 10);
+
+        verify(mongoTemplate, never()).find(any(Query.class), eq(Tombstone.class));
+        SyncToken next = SyncToken.decode(response.getChangeToken());
+        assertThat(response.getDeleted()).isEmpty();
+        assertThat(next.deletions().timestamp()).isEqualTo(next.syncedUpTo());
+    }
+
+    @Test
+    void pagesTasksAndKeepsTheSyncTimeUntilTheLastPage() {
+        LocalDateTime t = LocalDateTime.now().minusHours(1);
+        List<Task> tasks = List.of(task(t), task(t.plusSeconds(1)), task(t.plusSeconds(2)));
+        when(mongoTemplate.find(any(Query.class), eq(Task.class))).thenReturn(tasks);
+
+        SyncResponse response = syncService.changesSince(USER_ID, null, 2);
+
+        SyncToken next = SyncToken.decode(response.getChangeToken());
+        assertThat(response.getTasks()).hasSize(2);
+        assertThat(response.isHasMore()).isTrue();
+        assertThat(next.syncedUpTo()).isNull();
+        assertThat(next.tasks()).isEqualTo(KeysetCursor.of(tasks.get(1).getUpdatedAt(), tasks.get(1).getId()));
+    }
+
+    @Test
+    void pagesTombstonesAfterTheGivenPosition() {
+        LocalDateTime syncedUpTo = LocalDateTime.now().minusHours(1);
+        KeysetCursor position = KeysetCursor.of(syncedUpTo, new ObjectId().toHexString());
+        List<Tombstone> tombstones = List.of(tombstone(syncedUpTo.plusMinutes(1)),
+                tombstone(syncedUpTo.plusMinutes(2)), tombstone(syncedUpTo.plusMinutes(3)));
+        when(mongoTemplate.find(any(Query.class), eq(Tombstone.class))).thenReturn(tombstones);
+
+        SyncResponse response = syncService.changesSince(USER_ID,
+                new SyncToken(syncedUpTo, null, null, position).encode(), 2);
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(Tombstone.class));
+        assertThat(query.getValue().getQueryObject().toString()).contains(position.id().toHexString());
+        assertThat(query.getValue().getLimit()).isEqualTo(3);
+
+        SyncToken next = SyncToken.decode(response.getChangeToken());
+        assertThat(response.getDeleted()).extracting("id").containsExactly("task-0", "task-1");
+        assertThat(response.isHasMore()).isTrue();
+        assertThat(next.syncedUpTo()).isEqualTo(syncedUpTo);
+        assertThat(next.deletions()).isEqualTo(
+                KeysetCursor.of(tombstones.get(1).getDeletedAt(), tombstones.get(1).getId()));
+    }
+
+    @Test
+    void keepsThePositionOfACollectionWithoutChanges() {
+        LocalDateTime syncedUpTo = LocalDateTime.now().minusHours(1);
+        KeysetCursor position = KeysetCursor.of(syncedUpTo, new ObjectId().toHexString());
+
+        SyncResponse response = syncService.changesSince(USER_ID,
+                new SyncToken(syncedUpTo, position, null, position).encode(), 10);
+
+        SyncToken next = SyncToken.decode(response.getChangeToken());
+        assertThat(next.tasks()).isEqualTo(position);
+        assertThat(next.deletions()).isEqualTo(position);
+        assertThat(next.syncedUpTo()).isAfter(syncedUpTo);
+    }
+
+    @Test
+    void asksForAResetOnceTheTombstonesOfTheTokenMayHaveExpired() {
+        LocalDateTime syncedUpTo = LocalDateTime.now().minusDays(31);
+
+        SyncResponse response = syncService.changesSince(USER_ID,
+                new SyncToken(syncedUpTo, null, null, null).encode(), 10);
+
+        assertThat(response.isResetRequired()).isTrue();
+        assertThat(response.getChangeToken()).isNull();
+        verify(mongoTemplate, never()).find(any(Query.class), eq(Task.class));
+    }
+
+    private static Task task(LocalDateTime updatedAt) {
+        return Task.builder().id(new ObjectId().toHexString()).userId(USER_ID).updatedAt(updatedAt).build();
+    }
+
+    private Tombstone tombstone(LocalDateTime deletedAt) {
+        return Tombstone.builder()
+                .id(new ObjectId().toHexString())
+                .userId(USER_ID)
+                .entityType(Tombstone.EntityType.TASK)
+                .entityId("task-" + tombstones++)
+                .deletedAt(deletedAt)
+                .build();
+    }
+}
@@ -0,0 +1,229 @@
+package com.example.superapp.modules.tasks.service.impl;
+
+import com.example.superapp.common.dto.BatchItemResult;
+import com.example.superapp.common.dto.BatchResponse;
+import com.example.superapp.common.exception.GlobalExceptionHandler;
+import com.example.superapp.common.exception.ResourceNotFoundException;
+import com.example.superapp.common.search.SearchQueryCompiler;
+import com.example.superapp.modules.sync.service.SyncService;
+import com.example.superapp.modules.tasks.mapper.TaskMapperImpl;
+import com.example.superapp.modules.tasks.model.dto.TaskRequest;
+import com.example.superapp.modules.tasks.model.dto.TaskResponse;
+import com.example.superapp.modules.tasks.model.dto.TaskStatusUpdate;
+import com.example.superapp.modules.tasks.model.entity.Task;
+import com.example.superapp.modules.tasks.repository.TaskQueries;
+import com.example.superapp.modules.tasks.repository.TaskRepository;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.HttpStatus;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TaskServiceImplTest {
+
+    private static final String USER_ID = "user-1";
+    private static final String CONFLICT = "Task was modified by another request";
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final BulkOperations bulkOps = mock(BulkOperations.class);
+    private TaskServiceImpl taskService;
+
+    @BeforeEach
+    void setUp() {
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Task.class)).thenReturn(bulkOps);
+        taskService = new TaskServiceImpl(mock(TaskRepository.class), mongoTemplate,
+                new TaskQueries(mock(SearchQueryCompiler.class)), mock(SyncService.class), new TaskMapperImpl());
+    }
+
+    @Test
+    void guardedUpdatesGoOutInOneBulkWrite() {
+        matched(2);
+        stored(task("a", 4L), task("b", 8L));
+
+        taskService.updateStatusBatch(USER_ID, List.of(update("a", 3L), update("b", 7L)));
+
+        verify(bulkOps, times(2)).updateOne(any(Query.class), any(Update.class));
+        verify(bulkOps).execute();
+        verify(mongoTemplate, never()).updateFirst(any(Query.class),
+                any(Update.class), eq(Task.class));
+    }
+
+    @Test
+    void aTaskWrittenAgainAfterTheBatchIsStillASuccess() {
+        matched(2);
+        // b was bumped twice more by another request once the batch had moved it to 8
+        stored(task("a", 4L), task("b", 10L));
+
+        BatchResponse<TaskResponse> response = taskService.updateStatusBatch(USER_ID,
+                List.of(update("a", 3L), update("b", 7L)));
+
+        assertThat(response.getSucceeded()).isEqualTo(2);
+    }
+
+    @Test
+    void staleAndMissingTasksAreReportedApart() {
+        matched(0);
+        stored(task("a", 5L));
+
+        BatchResponse<TaskResponse> response = taskService.updateStatusBatch(USER_ID,
+                List.of(update("a", 3L), update("missing", 1L)));
+
+        assertThat(errors(response)).containsExactly(CONFLICT, "Task not found");
+    }
+
+    @Test
+    void unaccountedMissesAreBlamedOnTasksThatMovedPastTheirNextVersion() {
+        // a moved from 3 to 4 in the batch; b was moved from 7 to 9 by others, so its update missed
+        matched(1);
+        stored(task("a", 4L), task("b", 9L));
+
+        BatchResponse<TaskResponse> response = taskService.updateStatusBatch(USER_ID,
+                List.of(update("a", 3L), update("b", 7L)));
+
+        assertThat(errors(response)).containsExactly(null, CONFLICT);
+    }
+
+    @Test
+    void aVersionStepIsOnlyTakenOnce() {
+        matched(1);
+        stored(task("a", 4L));
+
+        BatchResponse<TaskResponse> response = taskService.updateStatusBatch(USER_ID,
+                List.of(update("a", 3L), update("a", 3L)));
+
+        assertThat(errors(response)).containsExactly(null, CONFLICT);
+    }
+
+    @Test
+    void unguardedUpdatesSucceedWhileTheTaskExists() {
+        matched(1);
+        stored(task("a", 12L));
+
+        BatchResponse<TaskResponse> response = taskService.updateStatusBatch(USER_ID,
+                List.of(update("a", null), update("missing", null)));
+
+        assertThat(errors(response)).containsExactly(null, "Task not found");
+    }
+
+    @Test
+    void bulkErrorsAreReportedByOperationIndex() {
+        when(bulkOps.execute()).thenThrow(bulkFailure(3, error(1, "E11000 duplicate key"), error(3, "too large")));
+
+        TaskServiceImpl.BulkOutcome outcome = TaskServiceImpl.executeUnordered(bulkOps);
+
+        assertThat(outcome.matched()).isEqualTo(3);
+        assertThat(outcome.errors()).containsExactlyInAnyOrderEntriesOf(
+                Map.of(1, "E11000 duplicate key", 3, "too large"));
+    }
+
+    @Test
+    void bulkFailuresWithoutWriteErrorsAreRethrown() {
+        BulkOperationException failure = bulkFailure(0);
+        when(bulkOps.execute()).thenThrow(failure);
+
+        assertThatThrownBy(() -> TaskServiceImpl.executeUnordered(bulkOps)).isSameAs(failure);
+    }
+
+    @Test
+    void batchCreateReportsEachFailedItemAtItsOwnIndex() {
+        when(bulkOps.insert(any(List.class))).thenReturn(bulkOps);
+        when(bulkOps.execute()).thenThrow(bulkFailure(0, error(1, "E11000 duplicate key")));
+
+        BatchResponse<TaskResponse> response = taskService.createBatch(USER_ID,
+                List.of(request("first"), request("second"), request("third")));
+
+        assertThat(errors(response)).containsExactly(null, "E11000 duplicate key", null);
+        assertThat(response.getResults().get(0).getData().getTitle()).isEqualTo("first");
+        assertThat(response.getResults().get(2).getData().getTitle()).isEqualTo("third");
+        assertThat(response.getResults().get(1).getId()).isNull();
+    }
+
+    @Test
+    void aStaleVersionOfAnExistingTaskIsAConflict() {
+        when(mongoTemplate.exists(any(Query.class), eq(Task.class))).thenReturn(true);
+
+        assertThatThrownBy(() -> taskService.updateStatus(USER_ID, "a", Task.Status.COMPLETED, 3L))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(new GlobalExceptionHandler().handleOptimisticLockingFailureException(
+                new OptimisticLockingFailureException("stale")).getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).exists(query.capture(), eq(Task.class));
+        assertThat(query.getValue().getQueryObject()).doesNotContainKey("version");
+    }
+
+    @Test
+    void aMissingTaskIsNotFoundWhateverTheVersion() {
+        assertThatThrownBy(() -> taskService.updateStatus(USER_ID, "missing", Task.Status.COMPLETED, 3L))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(new GlobalExceptionHandler().handleResourceNotFoundException(
+                new ResourceNotFoundException("Task", "id", "missing")).getStatusCode())
+                .isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void anUnguardedMissIsNotFoundWithoutALookup() {
+        assertThatThrownBy(() -> taskService.updateStatus(USER_ID, "missing", Task.Status.COMPLETED, null))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(mongoTemplate, never()).exists(any(Query.class), eq(Task.class));
+    }
+
+    private void matched(int count) {
+        when(bulkOps.execute()).thenReturn(BulkWriteResult.acknowledged(0, count, 0, count, List.of(), List.of()));
+    }
+
+    private void stored(Task... tasks) {
+        when(mongoTemplate.find(any(Query.class), eq(Task.class))).thenReturn(Arrays.asList(tasks));
+    }
+
+    private static List<String> errors(BatchResponse<TaskResponse> response) {
+        return response.getResults().stream().map(BatchItemResult::getError).toList();
+    }
+
+    private static BulkWriteError error(int index, String message) {
+        return new BulkWriteError(11000, message, new BsonDocument(), index);
+    }
+
+    private static BulkOperationException bulkFailure(int matched, BulkWriteError... errors) {
+        return new BulkOperationException("Bulk write failed", new MongoBulkWriteException(
+                BulkWriteResult.acknowledged(0, matched, 0, matched, List.of(), List.of()), List.of(errors), null,
+                new ServerAddress(), Set.of()));
+    }
+
+    private static TaskRequest request(String title) {
+        return TaskRequest.builder().title(title).build();
+    }
+
+    private static TaskStatusUpdate update(String id, Long version) {
+        return TaskStatusUpdate.builder().id(id).status(Task.Status.COMPLETED).version(version).build();
+    }
+
+    private static Task task(String id, Long version) {
+        return Task.builder().id(id).userId(USER_ID).title(id).version(version).build();
+    }
+}
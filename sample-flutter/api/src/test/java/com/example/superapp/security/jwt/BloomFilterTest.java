@@ -0,0 +1,34 @@
+package com.example.superapp.security.jwt;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    void neverReportsAFalseNegative() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.add("family-" + i));
+
+        assertThat(IntStream.range(0, 10_000).allMatch(i -> filter.mightContain("family-" + i))).isTrue();
+    }
+
+    @Test
+    void keepsTheFalsePositiveRateNearTheConfiguredOne() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.add("family-" + i));
+
+        long falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> filter.mightContain("other-" + i))
+                .count();
+        assertThat(falsePositives).isLessThan(2_000);
+    }
+
+    @Test
+    void startsEmpty() {
+        assertThat(new BloomFilter(100, 0.01).mightContain("family-1")).isFalse();
+    }
+}
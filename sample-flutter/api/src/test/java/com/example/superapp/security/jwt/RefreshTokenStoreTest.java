@@ -0,0 +1,127 @@
+package com.example.superapp.security.jwt;
+
+import com.example.superapp.common.exception.BusinessException;
+import com.example.superapp.modules.auth.model.entity.RefreshTokenFamily;
+import com.mongodb.client.result.UpdateResult;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RefreshTokenStoreTest {
+
+    private static final String FAMILY_ID = "family-1";
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RefreshTokenStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new RefreshTokenStore(mongoTemplate, meterRegistry, 604_800_000L, 1000, 0.01);
+    }
+
+    @Test
+    void rotationSwapsThePresentedTokenForTheNextOne() {
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(RefreshTokenFamily.class)))
+                .thenReturn(modified(1));
+
+        store.rotate(FAMILY_ID, "token-1", "token-2");
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateFirst(query.capture(), update.capture(), eq(RefreshTokenFamily.class));
+        assertThat(query.getValue().getQueryObject())
+                .containsEntry("id", FAMILY_ID)
+                .containsEntry("tokenHash", JwtTokenProvider.digest("token-1"))
+                .containsEntry("revoked", false);
+        assertThat(update.getValue().getUpdateObject().get("$set", Document.class))
+                .containsEntry("tokenHash", JwtTokenProvider.digest("token-2"));
+        assertThat(reuseDetected()).isZero();
+        assertThat(store.mightBeRevoked(claimsOf(FAMILY_ID))).isFalse();
+    }
+
+    @Test
+    void redeemingARotatedTokenRevokesTheFamily() {
+        // The compare-and-set misses, then the revocation of the still active family succeeds
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(RefreshTokenFamily.class)))
+                .thenReturn(modified(0), modified(1));
+
+        assertThatThrownBy(() -> store.rotate(FAMILY_ID, "token-1", "token-3"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Invalid refresh token");
+
+        ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate, times(2)).updateFirst(queries.capture(), any(Update.class),
+                eq(RefreshTokenFamily.class));
+        List<Query> captured = queries.getAllValues();
+        assertThat(captured.get(1).getQueryObject())
+                .containsEntry("id", FAMILY_ID)
+                .containsEntry("revoked", false)
+                .doesNotContainKey("tokenHash");
+        assertThat(reuseDetected()).isEqualTo(1);
+        assertThat(store.mightBeRevoked(claimsOf(FAMILY_ID))).isTrue();
+    }
+
+    @Test
+    void rotatingARevokedFamilyFailsWithoutCountingReuse() {
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(RefreshTokenFamily.class)))
+                .thenReturn(modified(0), modified(0));
+
+        assertThatThrownBy(() -> store.rotate(FAMILY_ID, "token-1", "token-2"))
+                .isInstanceOf(BusinessException.class);
+
+        assertThat(reuseDetected()).isZero();
+    }
+
+    @Test
+    void revocationIsConfirmedInMongoOnlyForFilterHits() {
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(RefreshTokenFamily.class)))
+                .thenReturn(modified(1));
+        when(mongoTemplate.exists(any(Query.class), eq(RefreshTokenFamily.class))).thenReturn(true);
+
+        assertThat(store.isRevoked(claimsOf("other-family"))).isFalse();
+        verify(mongoTemplate, never()).exists(any(Query.class), eq(RefreshTokenFamily.class));
+
+        assertThat(store.revoke(FAMILY_ID)).isTrue();
+        assertThat(store.isRevoked(claimsOf(FAMILY_ID))).isTrue();
+        verify(mongoTemplate).exists(any(Query.class), eq(RefreshTokenFamily.class));
+    }
+
+    @Test
+    void tokensWithoutAFamilyAreNeverRevoked() {
+        assertThat(store.isRevoked(claimsOf(null))).isFalse();
+        verify(mongoTemplate, never()).exists(any(Query.class), eq(RefreshTokenFamily.class));
+    }
+
+    private double reuseDetected() {
+        return meterRegistry.counter("refresh_token.reuse_detected").count();
+    }
+
+    private static Claims claimsOf(String familyId) {
+        Claims claims = mock(Claims.class);
+        when(claims.get(JwtTokenProvider.CLAIM_FAMILY_ID, String.class)).thenReturn(familyId);
+        return claims;
+    }
+
+    private static UpdateResult modified(long count) {
+        return UpdateResult.acknowledged(count, count, null);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.superapp.security.jwt;
+
+import com.example.superapp.modules.users.model.entity.User;
+import com.example.superapp.security.PrincipalCache;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenVersionRegistryTest {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final PrincipalCache principalCache = mock(PrincipalCache.class);
+    private final TokenVersionRegistry registry = new TokenVersionRegistry(mongoTemplate, principalCache);
+
+    @Test
+    void reloadRevokesAndEvictsUsersBumpedByAnotherInstance() {
+        storedVersions(user("a", 1), user("b", 2));
+        registry.reload();
+        clearInvocations(principalCache);
+
+        storedVersions(user("a", 2), user("b", 2));
+        registry.reload();
+
+        assertThat(registry.isCurrent("a", 1)).isFalse();
+        assertThat(registry.isCurrent("a", 2)).isTrue();
+        verify(principalCache).evictById("a");
+        verify(principalCache, never()).evictById("b");
+    }
+
+    @Test
+    void reloadKeepsNewerLocalRevocations() {
+        registry.onAfterSave(new AfterSaveEvent<>(user("a", 3), null, "users"));
+
+        storedVersions(user("a", 2));
+        registry.reload();
+
+        assertThat(registry.isCurrent("a", 2)).isFalse();
+        verify(principalCache, never()).evictById("a");
+    }
+
+    private void storedVersions(User... users) {
+        when(mongoTemplate.find(any(Query.class), eq(User.class))).thenReturn(List.of(users));
+    }
+
+    private static User user(String id, int tokenVersion) {
+        return User.builder().id(id).tokenVersion(tokenVersion).build();
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.superapp.security.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTest {
+
+    private final RateLimiter rateLimiter = new RateLimiter(new SimpleMeterRegistry(), 100, Duration.ofMinutes(10));
+
+    @Test
+    void limitSpreadsCapacityOverThePeriod() {
+        RateLimiter.Limit limit = RateLimiter.Limit.of(10, Duration.ofMinutes(1));
+
+        assertThat(limit.interval()).isEqualTo(Duration.ofSeconds(6).toNanos());
+        assertThat(limit.tolerance()).isEqualTo(Duration.ofSeconds(54).toNanos());
+    }
+
+    @Test
+    void rejectsOnceTheBurstIsSpentAndReportsTheWait() {
+        RateLimiter.Limit limit = RateLimiter.Limit.of(3, Duration.ofHours(1));
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.tryAcquire("ip:10.0.0.1", limit)).isZero();
+        }
+        assertThat(rateLimiter.tryAcquire("ip:10.0.0.1", limit))
+                .isPositive()
+                .isLessThanOrEqualTo(Duration.ofMinutes(20));
+    }
+
+    @Test
+    void keepsABucketPerKey() {
+        RateLimiter.Limit limit = RateLimiter.Limit.of(1, Duration.ofHours(1));
+
+        assertThat(rateLimiter.tryAcquire("user:a", limit)).isZero();
+        assertThat(rateLimiter.tryAcquire("user:a", limit)).isPositive();
+        assertThat(rateLimiter.tryAcquire("user:b", limit)).isZero();
+    }
+}
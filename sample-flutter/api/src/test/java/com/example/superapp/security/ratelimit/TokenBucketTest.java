@@ -0,0 +1,50 @@
+package com.example.superapp.security.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    private static final RateLimiter.Limit FIVE_PER_SECOND = RateLimiter.Limit.of(5, Duration.ofSeconds(1));
+    private static final long INTERVAL = Duration.ofMillis(200).toNanos();
+
+    @Test
+    void admitsABurstOfCapacityRequests() {
+        TokenBucket bucket = new TokenBucket(0);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(bucket.tryAcquire(0, FIVE_PER_SECOND.interval(), FIVE_PER_SECOND.tolerance())).isZero();
+        }
+        assertThat(bucket.tryAcquire(0, FIVE_PER_SECOND.interval(), FIVE_PER_SECOND.tolerance()))
+                .isEqualTo(INTERVAL);
+    }
+
+    @Test
+    void refillsOneTokenPerInterval() {
+        TokenBucket bucket = new TokenBucket(0);
+        for (int i = 0; i < 5; i++) {
+            bucket.tryAcquire(0, FIVE_PER_SECOND.interval(), FIVE_PER_SECOND.tolerance());
+        }
+
+        long halfway = INTERVAL / 2;
+        assertThat(bucket.tryAcquire(halfway, FIVE_PER_SECOND.interval(), FIVE_PER_SECOND.tolerance()))
+                .isEqualTo(INTERVAL - halfway);
+        assertThat(bucket.tryAcquire(INTERVAL, FIVE_PER_SECOND.interval(), FIVE_PER_SECOND.tolerance())).isZero();
+        assertThat(bucket.tryAcquire(INTERVAL, FIVE_PER_SECOND.interval(), FIVE_PER_SECOND.tolerance()))
+                .isPositive();
+    }
+
+    @Test
+    void idleTimeDoesNotAccumulateBeyondCapacity() {
+        TokenBucket bucket = new TokenBucket(0);
+        long later = Duration.ofMinutes(1).toNanos();
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(bucket.tryAcquire(later, FIVE_PER_SECOND.interval(), FIVE_PER_SECOND.tolerance())).isZero();
+        }
+        assertThat(bucket.tryAcquire(later, FIVE_PER_SECOND.interval(), FIVE_PER_SECOND.tolerance())).isPositive();
+    }
+}